@@ -0,0 +1,94 @@
+package ru.practicum.shareit.benchmarks;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.server.booking.BookingService;
+import ru.practicum.shareit.server.booking.dto.NewBookingDto;
+import ru.practicum.shareit.server.exception.InvalidRequestException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class BookingContentionBenchmark {
+    @Param({"1", "16"})
+    public int hotItems;
+    @Param({"60"})
+    public int windowMinutes;
+    private final AtomicLong minute = new AtomicLong();
+    private BookingService bookingService;
+    private JdbcTemplate jdbcTemplate;
+    private long[] itemIds;
+    private LocalDateTime future;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState state) {
+        bookingService = state.getBean(BookingService.class);
+        jdbcTemplate = state.getBean(JdbcTemplate.class);
+        itemIds = Arrays.copyOf(state.getDataset().getAvailableItemIds(), hotItems);
+        future = state.getDataset().getAnchor().plusYears(20);
+    }
+
+    @TearDown(Level.Iteration)
+    public void verifyNoOverlaps() {
+        Long bookings = jdbcTemplate.queryForObject(
+                "select count(*) from bookings where start_time >= ?", Long.class, future);
+        Long overlaps = jdbcTemplate.queryForObject("""
+                select count(*) from bookings a
+                join bookings b on b.item_id = a.item_id and b.id > a.id
+                    and b.start_time < a.end_time and b.end_time > a.start_time
+                where a.start_time >= ? and b.start_time >= ?
+                    and a.status in ('WAITING', 'APPROVED') and b.status in ('WAITING', 'APPROVED')
+                """, Long.class, future, future);
+        log.info("Created {} bookings on {} hot items, {} overlapping pairs", bookings, hotItems, overlaps);
+        if (overlaps == null || overlaps > 0) {
+            throw new IllegalStateException(String.format("Found %d overlapping bookings", overlaps));
+        }
+    }
+
+    @Benchmark
+    public void create(ShareItState state, Outcomes outcomes) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime start = future.plusMinutes(minute.getAndIncrement() + random.nextInt(windowMinutes));
+        NewBookingDto newBookingDto = new NewBookingDto(start,
+                start.plusMinutes(1 + random.nextInt(windowMinutes)),
+                itemIds[random.nextInt(itemIds.length)]);
+        try {
+            bookingService.create(state.randomUserId(), newBookingDto);
+            outcomes.booked++;
+        } catch (InvalidRequestException e) {
+            outcomes.busy++;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @org.openjdk.jmh.annotations.State(Scope.Thread)
+    public static class Outcomes {
+        public long booked;
+        public long busy;
+    }
+}
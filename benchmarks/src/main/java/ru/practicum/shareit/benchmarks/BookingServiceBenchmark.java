@@ -0,0 +1,51 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Window;
+import ru.practicum.shareit.server.booking.BookingService;
+import ru.practicum.shareit.server.booking.State;
+import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.booking.dto.NewBookingDto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class BookingServiceBenchmark {
+    private final AtomicLong slot = new AtomicLong();
+    private BookingService bookingService;
+    private LocalDateTime future;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState state) {
+        bookingService = state.getBean(BookingService.class);
+        future = state.getDataset().getAnchor().plusYears(10);
+    }
+
+    @Benchmark
+    public BookingDto create(ShareItState state) {
+        LocalDateTime start = future.plusMinutes(2 * slot.getAndIncrement());
+        return bookingService.create(state.randomUserId(),
+                new NewBookingDto(start, start.plusMinutes(1), state.randomAvailableItemId()));
+    }
+
+    @Benchmark
+    public Window<BookingDto> getAllByOwner(ShareItState state) {
+        return bookingService.getAllByOwner(state.randomUserId(), State.ALL, null, 20);
+    }
+}
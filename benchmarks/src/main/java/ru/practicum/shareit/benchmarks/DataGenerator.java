@@ -0,0 +1,119 @@
+package ru.practicum.shareit.benchmarks;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@Slf4j
+@RequiredArgsConstructor
+public class DataGenerator {
+    static final String[] WORDS = {"drill", "hammer", "saw", "ladder", "tent", "bike", "kayak", "camera", "tripod",
+            "projector", "speaker", "guitar", "mixer", "sander", "wrench", "stroller", "scooter", "grill", "vacuum",
+            "compressor"};
+    private static final String[] ADJECTIVES = {"cordless", "old", "new", "heavy", "compact", "folding", "electric",
+            "manual", "spare", "professional"};
+    private static final String[] STATUSES = {"WAITING", "APPROVED", "APPROVED", "APPROVED", "REJECTED"};
+    private static final int BATCH_SIZE = 1000;
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+    private final LocalDateTime anchor = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+
+    public Dataset generate(int users, int itemsPerUser, int bookingsPerItem, int commentsPerItem,
+                            int requestsPerUser, int largeOwnerItems) {
+        List<Object[]> userRows = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            userRows.add(new Object[]{"user" + i, "user" + i + "@shareit.test"});
+        }
+        insert("insert into users (name, email) values (?, ?)", userRows);
+        long[] userIds = ids("users");
+
+        List<Object[]> requestRows = new ArrayList<>();
+        for (int i = 0; i < users * requestsPerUser; i++) {
+            requestRows.add(new Object[]{"Looking for a " + phrase(), pick(userIds),
+                    anchor.minusHours(random.nextInt(24 * 365))});
+        }
+        insert("insert into requests (description, user_id, created_time) values (?, ?, ?)", requestRows);
+        long[] requestIds = ids("requests");
+
+        List<Object[]> itemRows = new ArrayList<>();
+        for (int i = 0; i < largeOwnerItems; i++) {
+            itemRows.add(item(userIds[0], requestIds));
+        }
+        for (int u = 1; u < userIds.length; u++) {
+            for (int i = 0; i < itemsPerUser; i++) {
+                itemRows.add(item(userIds[u], requestIds));
+            }
+        }
+        insert("insert into items (name, description, user_id, request_id, available) values (?, ?, ?, ?, ?)",
+                itemRows);
+        List<long[]> items = jdbcTemplate.query("select id, user_id, available from items order by id",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getBoolean(3) ? 1 : 0});
+
+        List<Object[]> bookingRows = new ArrayList<>();
+        List<Object[]> commentRows = new ArrayList<>();
+        for (long[] item : items) {
+            LocalDateTime start = anchor.minusDays(bookingsPerItem * 3L / 2).plusHours(random.nextInt(24));
+            for (int i = 0; i < bookingsPerItem; i++) {
+                LocalDateTime end = start.plusHours(1 + random.nextInt(72));
+                bookingRows.add(new Object[]{start, end, item[0], booker(userIds, item[1]),
+                        STATUSES[random.nextInt(STATUSES.length)]});
+                start = end.plusHours(1 + random.nextInt(48));
+            }
+            for (int i = 0; i < commentsPerItem; i++) {
+                commentRows.add(new Object[]{"The " + phrase() + " was fine", item[0], booker(userIds, item[1]),
+                        anchor.minusHours(random.nextInt(24 * 90))});
+            }
+        }
+        insert("insert into bookings (start_time, end_time, item_id, user_id, status) values (?, ?, ?, ?, ?)",
+                bookingRows);
+        insert("insert into comments (description, item_id, user_id, created_time) values (?, ?, ?, ?)",
+                commentRows);
+
+        long[] availableItemIds = items.stream()
+                .filter(item -> item[2] == 1)
+                .mapToLong(item -> item[0])
+                .toArray();
+        log.info("Generated {} users, {} requests, {} items, {} bookings, {} comments", userIds.length,
+                requestIds.length, items.size(), bookingRows.size(), commentRows.size());
+        return new Dataset(userIds, availableItemIds, userIds[0], anchor);
+    }
+
+    private Object[] item(long ownerId, long[] requestIds) {
+        Long requestId = requestIds.length > 0 && random.nextInt(5) == 0 ? pick(requestIds) : null;
+        String word = WORDS[random.nextInt(WORDS.length)];
+        String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + word;
+        return new Object[]{name, "A " + phrase() + " for rent", ownerId, requestId, random.nextInt(10) != 0};
+    }
+
+    private String phrase() {
+        return ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private long booker(long[] userIds, long ownerId) {
+        long bookerId = pick(userIds);
+        return bookerId == ownerId && userIds.length > 1 ? booker(userIds, ownerId) : bookerId;
+    }
+
+    private long pick(long[] ids) {
+        return ids[random.nextInt(ids.length)];
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(i, Math.min(i + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private long[] ids(String table) {
+        return jdbcTemplate.queryForList("select id from " + table + " order by id", Long.class)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.benchmarks;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class Dataset {
+    private final long[] userIds;
+    private final long[] availableItemIds;
+    private final long largeOwnerId;
+    private final LocalDateTime anchor;
+}
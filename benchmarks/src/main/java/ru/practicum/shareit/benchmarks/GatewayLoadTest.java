@@ -0,0 +1,139 @@
+package ru.practicum.shareit.benchmarks;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class GatewayLoadTest {
+    private static final String USER_HEADER = "X-Sharer-User-Id";
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("load.url", "http://localhost:8080");
+        int concurrency = Integer.getInteger("load.concurrency", 400);
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+        int users = Integer.getInteger("load.users", 200);
+        String path = System.getProperty("load.path", "/items/search?text=drill&from=0&size=10");
+        String label = System.getProperty("load.label", "gateway");
+        Path result = Path.of(System.getProperty("load.result", "target/load-result.json"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        long[] userIds = seed(client, url, users);
+        run(client, url + path, concurrency, warmup, userIds);
+        long[] latencies = run(client, url + path, concurrency, duration, userIds);
+        long errors = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        long[] sorted = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        String json = String.format(Locale.ROOT,
+                "{\"label\":\"%s\",\"concurrency\":%d,\"durationSeconds\":%d,\"requests\":%d,\"errors\":%d,"
+                        + "\"throughput\":%.1f,\"p50Millis\":%.2f,\"p99Millis\":%.2f,\"maxMillis\":%.2f}",
+                label, concurrency, duration.toSeconds(), latencies.length, errors,
+                (double) sorted.length / duration.toSeconds(), percentile(sorted, 0.50), percentile(sorted, 0.99),
+                percentile(sorted, 1.0));
+        Files.createDirectories(result.toAbsolutePath().getParent());
+        Files.writeString(result, json);
+        log.info("Load test result {}", json);
+    }
+
+    private static long[] seed(HttpClient client, String url, int users) throws Exception {
+        long[] userIds = new long[users];
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        for (int i = 0; i < users; i++) {
+            String user = post(client, url + "/users", null,
+                    "{\"name\":\"load" + i + "\",\"email\":\"load" + i + "." + run + "@shareit.test\"}");
+            userIds[i] = Long.parseLong(ID.matcher(user).results().findFirst().orElseThrow().group(1));
+            post(client, url + "/items", userIds[i],
+                    "{\"name\":\"Drill " + i + "\",\"description\":\"cordless drill\",\"available\":true}");
+        }
+        log.info("Created {} users with one item each", users);
+        return userIds;
+    }
+
+    private static String post(HttpClient client, String url, Long userId, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (userId != null) {
+            request.header(USER_HEADER, userId.toString());
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(String.format("POST %s failed with %d: %s",
+                    url, response.statusCode(), response.body()));
+        }
+        return response.body();
+    }
+
+    private static long[] run(HttpClient client, String url, int concurrency, Duration duration, long[] userIds)
+            throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> worker(client, url, deadline, userIds)));
+            }
+        }
+        List<long[]> results = new ArrayList<>();
+        for (Future<long[]> worker : workers) {
+            results.add(worker.get());
+        }
+        return results.stream().flatMapToLong(Arrays::stream).toArray();
+    }
+
+    private static long[] worker(HttpClient client, String url, long deadline, long[] userIds) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            long userId = userIds[ThreadLocalRandom.current().nextInt(userIds.length)];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .header(USER_HEADER, String.valueOf(userId))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            long latency;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                latency = response.statusCode() < 400 ? System.nanoTime() - start : -1;
+            } catch (IOException e) {
+                latency = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latency;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
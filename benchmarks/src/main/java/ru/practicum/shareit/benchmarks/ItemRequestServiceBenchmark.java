@@ -0,0 +1,38 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.server.request.ItemRequestService;
+import ru.practicum.shareit.server.request.dto.ItemRequestWithItemDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class ItemRequestServiceBenchmark {
+    private ItemRequestService itemRequestService;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState state) {
+        itemRequestService = state.getBean(ItemRequestService.class);
+    }
+
+    @Benchmark
+    public List<ItemRequestWithItemDto> getItemRequestsByOther(ShareItState state) {
+        return itemRequestService.getItemRequestsByOther(state.randomUserId());
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.server.item.ItemService;
+import ru.practicum.shareit.server.item.dto.ItemAllDto;
+import ru.practicum.shareit.server.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class ItemServiceBenchmark {
+    private ItemService itemService;
+
+    @Setup(Level.Trial)
+    public void setUp(ShareItState state) {
+        itemService = state.getBean(ItemService.class);
+    }
+
+    @Benchmark
+    public List<ItemAllDto> getAllByUserId(ShareItState state) {
+        return itemService.getAllByUserId(state.randomUserId());
+    }
+
+    @Benchmark
+    public List<ItemAllDto> getAllByUserIdWhenLargeOwner(ShareItState state) {
+        return itemService.getAllByUserId(state.getDataset().getLargeOwnerId());
+    }
+
+    @Benchmark
+    public List<ItemDto> getBySearch(ShareItState state) {
+        return itemService.getBySearch(state.randomUserId(), state.randomWord(), 0, 10);
+    }
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.benchmarks;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Slf4j
+public class LocalPostgres implements AutoCloseable {
+    public static final String USER = "shareit";
+    private static final String DATABASE = "shareit";
+    private final String binDir;
+    private final Path dataDir;
+    @Getter
+    private final int port;
+
+    private LocalPostgres(String binDir, Path dataDir, int port) {
+        this.binDir = binDir;
+        this.dataDir = dataDir;
+        this.port = port;
+    }
+
+    public static LocalPostgres start(String binDir) throws IOException, InterruptedException {
+        Path dataDir = Files.createTempDirectory("shareit-pg");
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        LocalPostgres postgres = new LocalPostgres(binDir, dataDir, port);
+        postgres.run("initdb", "-D", dataDir.toString(), "-U", USER, "-A", "trust", "-E", "UTF8");
+        postgres.run("pg_ctl", "-D", dataDir.toString(), "-l", dataDir.resolve("postgres.log").toString(),
+                "-o", "-p " + port + " -k " + dataDir + " -c listen_addresses=localhost", "-w", "start");
+        postgres.run("createdb", "-h", "localhost", "-p", String.valueOf(port), "-U", USER, DATABASE);
+        log.info("PostgreSQL started on port {} in {}", port, dataDir);
+        return postgres;
+    }
+
+    public String getUrl() {
+        return "jdbc:postgresql://localhost:" + port + "/" + DATABASE + "?reWriteBatchedInserts=true";
+    }
+
+    @Override
+    public void close() throws IOException, InterruptedException {
+        try {
+            run("pg_ctl", "-D", dataDir.toString(), "-m", "fast", "-w", "stop");
+        } finally {
+            try (Stream<Path> paths = Files.walk(dataDir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            Files.deleteIfExists(output());
+        }
+    }
+
+    private Path output() {
+        return dataDir.resolveSibling(dataDir.getFileName() + ".out");
+    }
+
+    private void run(String command, String... args) throws IOException, InterruptedException {
+        List<String> line = Stream.concat(
+                Stream.of(binDir.isBlank() ? command : Path.of(binDir, command).toString()),
+                Stream.of(args)).toList();
+        Process process = new ProcessBuilder(line)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(output().toFile()))
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException(String.format("Command %s failed with exit code %d",
+                    line, process.exitValue()));
+        }
+    }
+}
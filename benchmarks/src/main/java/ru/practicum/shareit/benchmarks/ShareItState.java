@@ -0,0 +1,111 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.server.ShareItApp;
+import ru.practicum.shareit.server.item.InvertedIndexItemSearchEngine;
+import ru.practicum.shareit.server.item.ItemSearchEngine;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+@State(Scope.Benchmark)
+public class ShareItState {
+    @Param({"h2"})
+    public String database;
+    @Param({"like"})
+    public String searchEngine;
+    @Param({"42"})
+    public long seed;
+    @Param({"1000"})
+    public int users;
+    @Param({"5"})
+    public int itemsPerUser;
+    @Param({"5"})
+    public int bookingsPerItem;
+    @Param({"2"})
+    public int commentsPerItem;
+    @Param({"1"})
+    public int requestsPerUser;
+    @Param({"10000"})
+    public int largeOwnerItems;
+
+    private LocalPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private Dataset dataset;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url;
+        String driver;
+        String bookingLock;
+        boolean partitions;
+        if ("postgresql".equals(database)) {
+            postgres = LocalPostgres.start(System.getProperty("shareit.benchmark.pg-bin", ""));
+            url = postgres.getUrl();
+            driver = "org.postgresql.Driver";
+            bookingLock = "advisory";
+            partitions = true;
+        } else {
+            url = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+            driver = "org.h2.Driver";
+            bookingLock = "striped";
+            partitions = false;
+        }
+        context = new SpringApplicationBuilder(ShareItApp.class)
+                .web(WebApplicationType.NONE)
+                .profiles("benchmark")
+                .run("--spring.datasource.driver-class-name=" + driver,
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + LocalPostgres.USER,
+                        "--spring.datasource.password=" + LocalPostgres.USER,
+                        "--shareit.search.engine=" + searchEngine,
+                        "--shareit.booking.lock=" + bookingLock,
+                        "--shareit.booking.partitions.enabled=" + partitions);
+        dataset = new DataGenerator(context.getBean(JdbcTemplate.class), new Random(seed))
+                .generate(users, itemsPerUser, bookingsPerItem, commentsPerItem, requestsPerUser, largeOwnerItems);
+        if (context.getBean(ItemSearchEngine.class) instanceof InvertedIndexItemSearchEngine index) {
+            index.rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    public long randomUserId() {
+        long[] userIds = dataset.getUserIds();
+        return userIds[1 + ThreadLocalRandom.current().nextInt(userIds.length - 1)];
+    }
+
+    public long randomAvailableItemId() {
+        long[] itemIds = dataset.getAvailableItemIds();
+        return itemIds[ThreadLocalRandom.current().nextInt(itemIds.length)];
+    }
+
+    public String randomWord() {
+        return DataGenerator.WORDS[ThreadLocalRandom.current().nextInt(DataGenerator.WORDS.length)];
+    }
+}
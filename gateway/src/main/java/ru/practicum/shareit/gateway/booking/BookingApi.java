@@ -0,0 +1,23 @@
+package ru.practicum.shareit.gateway.booking;
+
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
+import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
+import ru.practicum.shareit.gateway.booking.dto.State;
+
+public interface BookingApi<R> {
+    R create(Long bookerId, NewBookingDto newBooking);
+
+    R update(Long bookingId, Long userId, Boolean approved);
+
+    R updateAll(Long userId, BookingApprovalsDto approvals);
+
+    R getById(Long bookingId, Long userId);
+
+    R getAllByState(Long bookerId, State state, String cursor, Integer size);
+
+    R getAllByOwner(Long bookerId, State state, String cursor, Integer size);
+
+    R getSummary(Long bookerId);
+
+    R getOwnerSummary(Long ownerId);
+}
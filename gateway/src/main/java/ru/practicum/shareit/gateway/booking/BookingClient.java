@@ -3,49 +3,84 @@ package ru.practicum.shareit.gateway.booking;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
 import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
 import ru.practicum.shareit.gateway.booking.dto.State;
 import ru.practicum.shareit.gateway.client.BaseClient;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Service
-public class BookingClient extends BaseClient {
+@Conditional(BlockingGatewayCondition.class)
+public class BookingClient extends BaseClient implements BookingApi<ResponseEntity<Object>> {
     private static final String API_PREFIX = "/bookings";
 
     @Autowired
     public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
                 .build()
         );
     }
 
+    @Override
     public ResponseEntity<Object> create(Long bookerId, NewBookingDto newBooking) {
         return post("", bookerId, newBooking);
     }
 
+    @Override
     public ResponseEntity<Object> update(Long bookingId, Long userId, Boolean approved) {
         Map<String, Object> param = Map.of("approved", approved);
         return patch("/%d?approved={approved}".formatted(bookingId), userId, param);
     }
 
+    @Override
+    public ResponseEntity<Object> updateAll(Long userId, BookingApprovalsDto approvals) {
+        return patch("/approvals", userId, approvals);
+    }
+
+    @Override
     public ResponseEntity<Object> getById(Long bookingId, Long userId) {
         return get("/%d".formatted(bookingId), userId);
     }
 
-    public ResponseEntity<Object> getAllByState(Long bookerId, State state) {
-        Map<String, Object> param = Map.of("state", state.name());
-        return get("?state={state}", bookerId, param);
+    @Override
+    public ResponseEntity<Object> getAllByState(Long bookerId, State state, String cursor, Integer size) {
+        return get(withPage("?state={state}", cursor), bookerId, pageParameters(state, cursor, size));
+    }
+
+    @Override
+    public ResponseEntity<Object> getAllByOwner(Long bookerId, State state, String cursor, Integer size) {
+        return get(withPage("/owner?state={state}", cursor), bookerId, pageParameters(state, cursor, size));
+    }
+
+    @Override
+    public ResponseEntity<Object> getSummary(Long bookerId) {
+        return get("/summary", bookerId);
+    }
+
+    @Override
+    public ResponseEntity<Object> getOwnerSummary(Long ownerId) {
+        return get("/owner/summary", ownerId);
+    }
+
+    private static String withPage(String path, String cursor) {
+        return cursor == null ? path + "&size={size}" : path + "&cursor={cursor}&size={size}";
     }
 
-    public ResponseEntity<Object> getAllByOwner(Long bookerId, State state) {
-        Map<String, Object> param = Map.of("state", state.name());
-        return get("/owner?state={state}", bookerId, param);
+    private static Map<String, Object> pageParameters(State state, String cursor, Integer size) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("state", state.name());
+        param.put("size", size);
+        if (cursor != null) {
+            param.put("cursor", cursor);
+        }
+        return param;
     }
 }
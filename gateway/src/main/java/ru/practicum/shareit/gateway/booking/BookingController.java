@@ -3,6 +3,7 @@ package ru.practicum.shareit.gateway.booking;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,14 +14,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
 import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
 import ru.practicum.shareit.gateway.booking.dto.State;
-import ru.practicum.shareit.gateway.exception.InvalidRequestException;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 import ru.practicum.shareit.gateway.exception.InvalidStateException;
-
-import java.time.LocalDateTime;
+import ru.practicum.shareit.gateway.validation.GatewayValidation;
 
 @Controller
+@Conditional(BlockingGatewayCondition.class)
 @Slf4j
 @RequiredArgsConstructor
 @RequestMapping(path = "/bookings")
@@ -31,14 +33,7 @@ public class BookingController {
     public ResponseEntity<Object> create(@Valid @RequestBody NewBookingDto newBookingDto,
                                          @RequestHeader(value = "X-Sharer-User-Id") Long bookerId) {
         log.info("Started creating new booking");
-        LocalDateTime now = LocalDateTime.now().minusSeconds(5);
-        if (newBookingDto.getStart().isAfter(newBookingDto.getEnd())
-                || newBookingDto.getEnd().equals(newBookingDto.getStart())
-                || newBookingDto.getEnd().isBefore(now)
-                || newBookingDto.getStart().isBefore(now)) {
-            log.warn("Booking has invalid time");
-            throw new InvalidRequestException("Booking has invalid time");
-        }
+        GatewayValidation.checkBookingTime(newBookingDto);
         final ResponseEntity<Object> booking = bookingClient.create(bookerId, newBookingDto);
         log.info("Finished creating new booking");
         return booking;
@@ -54,6 +49,15 @@ public class BookingController {
         return booking;
     }
 
+    @PatchMapping("/approvals")
+    public ResponseEntity<Object> updateAll(@RequestHeader(value = "X-Sharer-User-Id") Long userId,
+                                            @Valid @RequestBody BookingApprovalsDto approvals) {
+        log.info("Started updating {} bookings", approvals.getApprovals().size());
+        final ResponseEntity<Object> bookings = bookingClient.updateAll(userId, approvals);
+        log.info("Finished updating {} bookings", approvals.getApprovals().size());
+        return bookings;
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getById(@PathVariable(value = "bookingId") Long bookingId,
                                           @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
@@ -65,20 +69,42 @@ public class BookingController {
 
     @GetMapping
     public ResponseEntity<Object> getAllByState(@RequestHeader(value = "X-Sharer-User-Id") Long bookerId,
-                                                @RequestParam(value = "state", defaultValue = "ALL") String state) {
+                                                @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                @RequestParam(value = "size", defaultValue = "20") Integer size) {
         log.info("Started getting all booking by state");
         State confirmedState = State.from(state).orElseThrow(InvalidStateException::new);
-        final ResponseEntity<Object> booking = bookingClient.getAllByState(bookerId, confirmedState);
+        GatewayValidation.checkSize(size);
+        final ResponseEntity<Object> booking = bookingClient.getAllByState(bookerId, confirmedState, cursor, size);
         log.info("Finished getting all booking by state");
         return booking;
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<Object> getSummary(@RequestHeader(value = "X-Sharer-User-Id") Long bookerId) {
+        log.info("Started getting booking summary");
+        final ResponseEntity<Object> summary = bookingClient.getSummary(bookerId);
+        log.info("Finished getting booking summary");
+        return summary;
+    }
+
+    @GetMapping("/owner/summary")
+    public ResponseEntity<Object> getOwnerSummary(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId) {
+        log.info("Started getting booking summary by owner");
+        final ResponseEntity<Object> summary = bookingClient.getOwnerSummary(ownerId);
+        log.info("Finished getting booking summary by owner");
+        return summary;
+    }
+
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllByOwner(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
-                                                @RequestParam(value = "state", defaultValue = "ALL") String state) {
+                                                @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                @RequestParam(value = "cursor", required = false) String cursor,
+                                                @RequestParam(value = "size", defaultValue = "20") Integer size) {
         log.info("Started getting all booking by owner");
         State confirmedState = State.from(state).orElseThrow(InvalidStateException::new);
-        final ResponseEntity<Object> booking = bookingClient.getAllByOwner(ownerId, confirmedState);
+        GatewayValidation.checkSize(size);
+        final ResponseEntity<Object> booking = bookingClient.getAllByOwner(ownerId, confirmedState, cursor, size);
         log.info("Finished getting all booking by owner");
         return booking;
     }
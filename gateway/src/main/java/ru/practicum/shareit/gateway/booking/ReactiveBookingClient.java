@@ -0,0 +1,82 @@
+package ru.practicum.shareit.gateway.booking;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
+import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
+import ru.practicum.shareit.gateway.booking.dto.State;
+import ru.practicum.shareit.gateway.client.ReactiveBaseClient;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient implements BookingApi<Mono<ResponseEntity<byte[]>>> {
+    private static final String API_PREFIX = "/bookings";
+
+    @Autowired
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, WebClient.Builder builder) {
+        super(builder.baseUrl(serverUrl + API_PREFIX).build());
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> create(Long bookerId, NewBookingDto newBooking) {
+        return post("", bookerId, newBooking);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> update(Long bookingId, Long userId, Boolean approved) {
+        Map<String, Object> param = Map.of("approved", approved);
+        return patch("/%d?approved={approved}".formatted(bookingId), userId, param);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> updateAll(Long userId, BookingApprovalsDto approvals) {
+        return patch("/approvals", userId, approvals);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getById(Long bookingId, Long userId) {
+        return get("/%d".formatted(bookingId), userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getAllByState(Long bookerId, State state, String cursor, Integer size) {
+        return get(withPage("?state={state}", cursor), bookerId, pageParameters(state, cursor, size));
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getAllByOwner(Long bookerId, State state, String cursor, Integer size) {
+        return get(withPage("/owner?state={state}", cursor), bookerId, pageParameters(state, cursor, size));
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getSummary(Long bookerId) {
+        return get("/summary", bookerId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getOwnerSummary(Long ownerId) {
+        return get("/owner/summary", ownerId);
+    }
+
+    private static String withPage(String path, String cursor) {
+        return cursor == null ? path + "&size={size}" : path + "&cursor={cursor}&size={size}";
+    }
+
+    private static Map<String, Object> pageParameters(State state, String cursor, Integer size) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("state", state.name());
+        param.put("size", size);
+        if (cursor != null) {
+            param.put("cursor", cursor);
+        }
+        return param;
+    }
+}
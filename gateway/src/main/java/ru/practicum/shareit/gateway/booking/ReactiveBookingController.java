@@ -0,0 +1,103 @@
+package ru.practicum.shareit.gateway.booking;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
+import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
+import ru.practicum.shareit.gateway.booking.dto.State;
+import ru.practicum.shareit.gateway.exception.InvalidStateException;
+import ru.practicum.shareit.gateway.validation.GatewayValidation;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping(path = "/bookings")
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> create(@Valid @RequestBody NewBookingDto newBookingDto,
+                                               @RequestHeader(value = "X-Sharer-User-Id") Long bookerId) {
+        log.info("Started creating new booking");
+        GatewayValidation.checkBookingTime(newBookingDto);
+        return bookingClient.create(bookerId, newBookingDto)
+                .doOnSuccess(booking -> log.info("Finished creating new booking"));
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> update(@RequestHeader(value = "X-Sharer-User-Id") Long userId,
+                                               @PathVariable(value = "bookingId") Long bookingId,
+                                               @RequestParam(value = "approved") Boolean approved) {
+        log.info("Started updating booking");
+        return bookingClient.update(bookingId, userId, approved)
+                .doOnSuccess(booking -> log.info("Finished updating booking"));
+    }
+
+    @PatchMapping("/approvals")
+    public Mono<ResponseEntity<byte[]>> updateAll(@RequestHeader(value = "X-Sharer-User-Id") Long userId,
+                                                  @Valid @RequestBody BookingApprovalsDto approvals) {
+        log.info("Started updating {} bookings", approvals.getApprovals().size());
+        return bookingClient.updateAll(userId, approvals)
+                .doOnSuccess(bookings -> log.info("Finished updating {} bookings", approvals.getApprovals().size()));
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> getById(@PathVariable(value = "bookingId") Long bookingId,
+                                                @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started getting booking by id");
+        return bookingClient.getById(bookingId, userId)
+                .doOnSuccess(booking -> log.info("Finished getting booking by id"));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllByState(@RequestHeader(value = "X-Sharer-User-Id") Long bookerId,
+                                                      @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                      @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        log.info("Started getting all booking by state");
+        State confirmedState = State.from(state).orElseThrow(InvalidStateException::new);
+        GatewayValidation.checkSize(size);
+        return bookingClient.getAllByState(bookerId, confirmedState, cursor, size)
+                .doOnSuccess(booking -> log.info("Finished getting all booking by state"));
+    }
+
+    @GetMapping("/summary")
+    public Mono<ResponseEntity<byte[]>> getSummary(@RequestHeader(value = "X-Sharer-User-Id") Long bookerId) {
+        log.info("Started getting booking summary");
+        return bookingClient.getSummary(bookerId)
+                .doOnSuccess(summary -> log.info("Finished getting booking summary"));
+    }
+
+    @GetMapping("/owner/summary")
+    public Mono<ResponseEntity<byte[]>> getOwnerSummary(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId) {
+        log.info("Started getting booking summary by owner");
+        return bookingClient.getOwnerSummary(ownerId)
+                .doOnSuccess(summary -> log.info("Finished getting booking summary by owner"));
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<byte[]>> getAllByOwner(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
+                                                      @RequestParam(value = "state", defaultValue = "ALL") String state,
+                                                      @RequestParam(value = "cursor", required = false) String cursor,
+                                                      @RequestParam(value = "size", defaultValue = "20") Integer size) {
+        log.info("Started getting all booking by owner");
+        State confirmedState = State.from(state).orElseThrow(InvalidStateException::new);
+        GatewayValidation.checkSize(size);
+        return bookingClient.getAllByOwner(ownerId, confirmedState, cursor, size)
+                .doOnSuccess(booking -> log.info("Finished getting all booking by owner"));
+    }
+}
@@ -0,0 +1,21 @@
+package ru.practicum.shareit.gateway.booking.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingApprovalsDto {
+    public static final int MAX_APPROVALS = 1000;
+    @NotEmpty
+    @Size(max = MAX_APPROVALS)
+    private List<@NotNull @Valid BookingApprovalDto> approvals;
+}
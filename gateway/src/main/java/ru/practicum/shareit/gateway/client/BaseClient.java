@@ -3,16 +3,23 @@ package ru.practicum.shareit.gateway.client;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.lang.Nullable;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.List;
 import java.util.Map;
 
 public class BaseClient {
+    static final List<String> RESPONSE_HEADERS_TO_DROP = List.of(HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONTENT_ENCODING);
+    static final List<String> FORWARDED_REQUEST_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH);
     protected final RestTemplate rest;
 
     public BaseClient(RestTemplate rest) {
@@ -88,6 +95,27 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> postLines(String path, Long userId, StreamingHttpOutputMessage.Body lines) {
+        HttpHeaders headers = defaultHeaders(userId);
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            shareitServerResponse = rest.execute(path, HttpMethod.POST, request -> {
+                request.getHeaders().addAll(headers);
+                if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                    streamingRequest.setBody(lines);
+                } else {
+                    lines.writeTo(request.getBody());
+                }
+            }, rest.responseEntityExtractor(byte[].class));
+        } catch (HttpStatusCodeException e) {
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        }
+        return prepareGatewayResponse(shareitServerResponse.getStatusCode(),
+                shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
+    }
+
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method,
                                                           String path,
                                                           Long userId,
@@ -95,17 +123,19 @@ public class BaseClient {
                                                           @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return prepareGatewayResponse(shareitServerResponse.getStatusCode(),
+                shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
     }
 
     private HttpHeaders defaultHeaders(Long userId) {
@@ -115,20 +145,35 @@ public class BaseClient {
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            FORWARDED_REQUEST_HEADERS.forEach(name -> {
+                String value = attributes.getRequest().getHeader(name);
+                if (value != null) {
+                    headers.set(name, value);
+                }
+            });
+        }
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+    static HttpHeaders gatewayHeaders(HttpHeaders responseHeaders) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(responseHeaders);
+        RESPONSE_HEADERS_TO_DROP.forEach(headers::remove);
+        String eTag = headers.getETag();
+        if (eTag != null && !eTag.startsWith("W/")) {
+            headers.setETag("W/" + eTag);
         }
+        return headers;
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
-
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+    private static ResponseEntity<Object> prepareGatewayResponse(HttpStatusCode status,
+                                                                 @Nullable HttpHeaders responseHeaders,
+                                                                 @Nullable byte[] body) {
+        HttpHeaders headers = responseHeaders != null ? gatewayHeaders(responseHeaders) : new HttpHeaders();
+        if (body == null || body.length == 0) {
+            return new ResponseEntity<>(headers, status);
         }
-
-        return responseBuilder.build();
+        return new ResponseEntity<>(body, headers, status);
     }
 }
@@ -0,0 +1,122 @@
+package ru.practicum.shareit.gateway.client;
+
+import org.reactivestreams.Publisher;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class ReactiveBaseClient {
+    protected final WebClient webClient;
+
+    public ReactiveBaseClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, Long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, Long userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, T body) {
+        return post(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, Long userId, T body) {
+        return post(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path,
+                                                   Long userId,
+                                                   @Nullable Map<String, Object> parameters,
+                                                   T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, T body) {
+        return patch(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path,
+                                                    Long userId,
+                                                    @Nullable Map<String, Object> parameters) {
+        return patch(path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, Long userId, T body) {
+        return patch(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path,
+                                                    Long userId,
+                                                    @Nullable Map<String, Object> parameters,
+                                                    T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> delete(String path) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, null, null, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> postLines(String path, Long userId, Publisher<String> lines) {
+        return exchange(HttpMethod.POST, path, userId, null,
+                request -> request.contentType(MediaType.APPLICATION_NDJSON).body(lines, String.class));
+    }
+
+    private <T> Mono<ResponseEntity<byte[]>> makeAndSendRequest(HttpMethod method,
+                                                               String path,
+                                                               Long userId,
+                                                               @Nullable Map<String, Object> parameters,
+                                                               @Nullable T body) {
+        return exchange(method, path, userId, parameters, request -> {
+            if (body != null) {
+                request.contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+            }
+        });
+    }
+
+    private Mono<ResponseEntity<byte[]>> exchange(HttpMethod method,
+                                                  String path,
+                                                  Long userId,
+                                                  @Nullable Map<String, Object> parameters,
+                                                  Consumer<WebClient.RequestBodySpec> body) {
+        return Mono.deferContextual(context -> {
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(path, parameters != null ? parameters : Map.of())
+                    .accept(MediaType.APPLICATION_JSON)
+                    .headers(headers -> {
+                        if (userId != null) {
+                            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                        }
+                        ServerWebExchangeContextFilter.getExchange(context).ifPresent(exchange ->
+                                BaseClient.FORWARDED_REQUEST_HEADERS.forEach(name -> {
+                                    String value = exchange.getRequest().getHeaders().getFirst(name);
+                                    if (value != null) {
+                                        headers.set(name, value);
+                                    }
+                                }));
+                    });
+            body.accept(request);
+            return request.exchangeToMono(response -> response.toEntity(byte[].class));
+        }).map(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    private static ResponseEntity<byte[]> prepareGatewayResponse(ResponseEntity<byte[]> response) {
+        return new ResponseEntity<>(response.getBody(),
+                BaseClient.gatewayHeaders(response.getHeaders()),
+                response.getStatusCode());
+    }
+}
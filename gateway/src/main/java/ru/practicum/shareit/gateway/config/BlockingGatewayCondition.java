@@ -0,0 +1,14 @@
+package ru.practicum.shareit.gateway.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+
+public class BlockingGatewayCondition extends NoneNestedConditions {
+    public BlockingGatewayCondition() {
+        super(ConfigurationPhase.REGISTER_BEAN);
+    }
+
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveWebApplication {
+    }
+}
@@ -0,0 +1,135 @@
+package ru.practicum.shareit.gateway.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import ru.practicum.shareit.gateway.exception.ServerBusyException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// a request factory rather than an interceptor: RestTemplate buffers the whole body for interceptors, which would
+// hold streamed bulk imports in memory
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitRequestFactory implements ClientHttpRequestFactory {
+    private final ClientHttpRequestFactory requestFactory;
+    private final Semaphore permits;
+    private final Duration queueTimeout;
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new PermitRequest(requestFactory.createRequest(uri, httpMethod));
+    }
+
+    private void acquire(URI uri) throws IOException {
+        try {
+            if (!permits.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("No permit to call {} within {}", uri, queueTimeout);
+                throw new ServerBusyException("Server is busy, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a permit");
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class PermitRequest implements ClientHttpRequest, StreamingHttpOutputMessage {
+        private final ClientHttpRequest request;
+        private Body body;
+
+        @Override
+        public HttpMethod getMethod() {
+            return request.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return request.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return request.getHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return request.getBody();
+        }
+
+        @Override
+        public void setBody(Body body) {
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(body);
+            } else {
+                this.body = body;
+            }
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            acquire(request.getURI());
+            try {
+                if (body != null) {
+                    body.writeTo(request.getBody());
+                }
+                return new PermitResponse(request.execute());
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private final class PermitResponse implements ClientHttpResponse {
+        private final ClientHttpResponse response;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return response.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return response.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return response.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return response.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                response.close();
+            } finally {
+                if (closed.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.gateway.exception.InvalidRequestException;
 import ru.practicum.shareit.gateway.exception.InvalidStateException;
+import ru.practicum.shareit.gateway.exception.ServerBusyException;
 
 @RestControllerAdvice
 public class ErrorHandler {
@@ -15,4 +16,10 @@ public class ErrorHandler {
     public ErrorResponse invalidRequest(RuntimeException e) {
         return new ErrorResponse("Неподдерживаемый тип запроса", e.getMessage());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse serverBusy(ServerBusyException e) {
+        return new ErrorResponse("Сервер перегружен", e.getMessage());
+    }
+}
@@ -0,0 +1,203 @@
+package ru.practicum.shareit.gateway.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+import org.springframework.lang.Nullable;
+import ru.practicum.shareit.gateway.exception.InvalidRequestException;
+import ru.practicum.shareit.gateway.item.dto.BulkItemDto;
+import ru.practicum.shareit.gateway.item.dto.NewItemDto;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class BulkItemParser {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    static final List<String> CSV_COLUMNS = List.of("name", "description", "available", "requestId");
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    @Nullable
+    private final List<String> columns;
+    private int line;
+
+    private BulkItemParser(ObjectMapper objectMapper, Validator validator, @Nullable List<String> columns, int line) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.columns = columns;
+        this.line = line;
+    }
+
+    @FunctionalInterface
+    public interface HeaderReader {
+        @Nullable
+        String readLine() throws IOException;
+    }
+
+    // the header line is read only when the body is CSV, an NDJSON body starts with an item
+    public static BulkItemParser of(String contentType, HeaderReader header, ObjectMapper objectMapper,
+                                    Validator validator) throws IOException {
+        return isCsv(contentType) ? csv(header.readLine(), objectMapper, validator) : ndjson(objectMapper, validator);
+    }
+
+    public static boolean isCsv(String contentType) {
+        return MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE));
+    }
+
+    public static BulkItemParser ndjson(ObjectMapper objectMapper, Validator validator) {
+        return new BulkItemParser(objectMapper, validator, null, 0);
+    }
+
+    public static BulkItemParser csv(@Nullable String header, ObjectMapper objectMapper, Validator validator) {
+        List<String> columns = header == null ? List.of() : split(header).stream().map(String::strip).toList();
+        Set<String> distinct = new HashSet<>(columns);
+        if (distinct.size() != columns.size()
+                || !CSV_COLUMNS.containsAll(distinct)
+                || !distinct.containsAll(CSV_COLUMNS.subList(0, 3))) {
+            throw new InvalidRequestException(String.format("CSV header must contain columns %s, requestId is optional",
+                    String.join(",", CSV_COLUMNS)));
+        }
+        return new BulkItemParser(objectMapper, validator, columns, 1);
+    }
+
+    public int headerLines() {
+        return columns == null ? 0 : 1;
+    }
+
+    public void transfer(BufferedReader reader, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        String value;
+        while ((value = reader.readLine()) != null) {
+            String bulkItem = parse(value);
+            if (bulkItem != null) {
+                writer.write(bulkItem);
+            }
+        }
+        writer.flush();
+    }
+
+    @Nullable
+    public String parse(String value) {
+        line++;
+        if (value.isBlank()) {
+            return null;
+        }
+        BulkItemDto bulkItem;
+        try {
+            bulkItem = validate(columns == null ? objectMapper.readValue(value, NewItemDto.class) : fromCsv(value));
+        } catch (JsonProcessingException e) {
+            bulkItem = failed("Item must be a JSON object with name, description, available and requestId");
+        } catch (IllegalArgumentException e) {
+            bulkItem = failed(e.getMessage());
+        }
+        try {
+            return objectMapper.writeValueAsString(bulkItem) + "\n";
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private NewItemDto fromCsv(String value) {
+        List<String> fields = split(value);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException(String.format("Item must have %d fields", columns.size()));
+        }
+        NewItemDto newItemDto = new NewItemDto();
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            switch (columns.get(i)) {
+                case "name" -> newItemDto.setName(field);
+                case "description" -> newItemDto.setDescription(field);
+                case "available" -> newItemDto.setAvailable(toBoolean(field));
+                default -> newItemDto.setRequestId(toLong(field));
+            }
+        }
+        return newItemDto;
+    }
+
+    private BulkItemDto validate(@Nullable NewItemDto newItemDto) {
+        if (newItemDto == null) {
+            return failed("Item must not be null");
+        }
+        Set<ConstraintViolation<NewItemDto>> violations = validator.validate(newItemDto);
+        if (!violations.isEmpty()) {
+            return failed(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return new BulkItemDto(line,
+                newItemDto.getName(),
+                newItemDto.getDescription(),
+                newItemDto.getAvailable(),
+                newItemDto.getRequestId(),
+                null);
+    }
+
+    private BulkItemDto failed(String error) {
+        return new BulkItemDto(line, null, null, null, null, error);
+    }
+
+    @Nullable
+    private static Boolean toBoolean(String field) {
+        if (field.isBlank()) {
+            return null;
+        }
+        if (field.equalsIgnoreCase("true") || field.equalsIgnoreCase("false")) {
+            return Boolean.valueOf(field);
+        }
+        throw new IllegalArgumentException("available: must be true or false");
+    }
+
+    @Nullable
+    private static Long toLong(String field) {
+        if (field.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(field.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("requestId: must be a number");
+        }
+    }
+
+    static List<String> split(String value) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < value.length() && value.charAt(i + 1) == '"') {
+                    field.append(c);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,23 @@
+package ru.practicum.shareit.gateway.item;
+
+import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
+import ru.practicum.shareit.gateway.item.dto.NewItemDto;
+import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
+
+import java.time.LocalDateTime;
+
+public interface ItemApi<R> {
+    R create(Long ownerId, NewItemDto newItemDto);
+
+    R update(Long itemId, Long userId, UpdateItemDto updateItemDto);
+
+    R getAllByUserId(Long userId);
+
+    R getItemById(Long itemId, Long userId);
+
+    R getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to);
+
+    R getBySearch(Long userId, String text, Integer from, Integer size);
+
+    R createComment(Long itemId, Long userId, NewCommentDto newCommentDto);
+}
@@ -3,50 +3,69 @@ package ru.practicum.shareit.gateway.item;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.gateway.client.BaseClient;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
 import ru.practicum.shareit.gateway.item.dto.NewItemDto;
 import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Service
-public class ItemClient extends BaseClient {
+@Conditional(BlockingGatewayCondition.class)
+public class ItemClient extends BaseClient implements ItemApi<ResponseEntity<Object>> {
     private static final String API_PREFIX = "/items";
 
     @Autowired
     public ItemClient(@Value("${shareit-server.url}") String url, RestTemplateBuilder builder) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(url + API_PREFIX))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
                 .build());
     }
 
+    @Override
     public ResponseEntity<Object> create(Long ownerId, NewItemDto newItemDto) {
         return post("", ownerId, newItemDto);
     }
 
+    public ResponseEntity<Object> createAll(Long ownerId, StreamingHttpOutputMessage.Body bulkItems) {
+        return postLines("/bulk", ownerId, bulkItems);
+    }
+
+    @Override
     public ResponseEntity<Object> update(Long itemId, Long userId, UpdateItemDto updateItemDto) {
         return patch("/%d".formatted(itemId), userId, updateItemDto);
     }
 
+    @Override
     public ResponseEntity<Object> getAllByUserId(Long userId) {
-        return get("/%d".formatted(userId));
+        return get("", userId);
     }
 
+    @Override
     public ResponseEntity<Object> getItemById(Long itemId, Long userId) {
         return get("/%d".formatted(itemId), userId);
     }
 
-    public ResponseEntity<Object> getBySearch(Long userId, String text) {
-        Map<String, Object> param = Map.of("text", text);
-        return get("/search?text={text}", userId, param);
+    @Override
+    public ResponseEntity<Object> getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> param = Map.of("from", from, "to", to);
+        return get("/%d/availability?from={from}&to={to}".formatted(itemId), userId, param);
+    }
+
+    @Override
+    public ResponseEntity<Object> getBySearch(Long userId, String text, Integer from, Integer size) {
+        Map<String, Object> param = Map.of("text", text, "from", from, "size", size);
+        return get("/search?text={text}&from={from}&size={size}", userId, param);
     }
 
+    @Override
     public ResponseEntity<Object> createComment(Long itemId, Long userId, NewCommentDto newCommentDto) {
         return post("/%d/comment".formatted(itemId), userId, newCommentDto);
     }
@@ -1,8 +1,14 @@
 package ru.practicum.shareit.gateway.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,16 +19,27 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
 import ru.practicum.shareit.gateway.item.dto.NewItemDto;
 import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
+import ru.practicum.shareit.gateway.validation.GatewayValidation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 
 @Controller
+@Conditional(BlockingGatewayCondition.class)
 @RequestMapping(path = "/items")
 @RequiredArgsConstructor
 @Slf4j
 public class ItemController {
     private final ItemClient itemClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping
     public ResponseEntity<Object> createItem(@Valid @RequestBody NewItemDto newItemDto,
@@ -33,6 +50,19 @@ public class ItemController {
         return item;
     }
 
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, BulkItemParser.TEXT_CSV_VALUE})
+    public ResponseEntity<Object> createItems(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
+                                              HttpServletRequest request) throws IOException {
+        log.info("Started importing items");
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(),
+                StandardCharsets.UTF_8));
+        final BulkItemParser parser = BulkItemParser.of(request.getContentType(), reader::readLine, objectMapper,
+                validator);
+        final ResponseEntity<Object> items = itemClient.createAll(ownerId, out -> parser.transfer(reader, out));
+        log.info("Finished importing items");
+        return items;
+    }
+
     @PatchMapping("/{itemId}")
     public ResponseEntity<Object> update(@RequestBody UpdateItemDto updateItemDto,
                                          @PathVariable(value = "itemId") Long itemId,
@@ -60,11 +90,28 @@ public class ItemController {
         return item;
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getAvailability(@PathVariable(value = "itemId") Long itemId,
+                                                  @RequestParam(value = "from")
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam(value = "to")
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                  @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started getting availability of item with id = {}", itemId);
+        GatewayValidation.checkPeriod(from, to);
+        final ResponseEntity<Object> availability = itemClient.getAvailability(itemId, userId, from, to);
+        log.info("Finished getting availability of item with id = {}", itemId);
+        return availability;
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Object> getBySearch(@RequestParam(value = "text") String text,
+                                              @RequestParam(value = "from", defaultValue = "0") Integer from,
+                                              @RequestParam(value = "size", defaultValue = "10") Integer size,
                                               @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
         log.info("Started searching item contained text: {}", text);
-        final ResponseEntity<Object> item = itemClient.getBySearch(userId, text);
+        GatewayValidation.checkPage(from, size);
+        final ResponseEntity<Object> item = itemClient.getBySearch(userId, text, from, size);
         log.info("Finished searching item contained text: {}", text);
         return item;
     }
@@ -78,4 +125,4 @@ public class ItemController {
         log.info("Generated creating comment with itemId = {}", itemId);
         return comment;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package ru.practicum.shareit.gateway.item;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.client.ReactiveBaseClient;
+import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
+import ru.practicum.shareit.gateway.item.dto.NewItemDto;
+import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient implements ItemApi<Mono<ResponseEntity<byte[]>>> {
+    private static final String API_PREFIX = "/items";
+
+    @Autowired
+    public ReactiveItemClient(@Value("${shareit-server.url}") String url, WebClient.Builder builder) {
+        super(builder.baseUrl(url + API_PREFIX).build());
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> create(Long ownerId, NewItemDto newItemDto) {
+        return post("", ownerId, newItemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> createAll(Long ownerId, Publisher<String> bulkItems) {
+        return postLines("/bulk", ownerId, bulkItems);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> update(Long itemId, Long userId, UpdateItemDto updateItemDto) {
+        return patch("/%d".formatted(itemId), userId, updateItemDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getAllByUserId(Long userId) {
+        return get("", userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getItemById(Long itemId, Long userId) {
+        return get("/%d".formatted(itemId), userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> param = Map.of("from", from, "to", to);
+        return get("/%d/availability?from={from}&to={to}".formatted(itemId), userId, param);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getBySearch(Long userId, String text, Integer from, Integer size) {
+        Map<String, Object> param = Map.of("text", text, "from", from, "size", size);
+        return get("/search?text={text}&from={from}&size={size}", userId, param);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> createComment(Long itemId, Long userId, NewCommentDto newCommentDto) {
+        return post("/%d/comment".formatted(itemId), userId, newCommentDto);
+    }
+}
@@ -0,0 +1,120 @@
+package ru.practicum.shareit.gateway.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
+import ru.practicum.shareit.gateway.item.dto.NewItemDto;
+import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
+import ru.practicum.shareit.gateway.validation.GatewayValidation;
+
+import java.time.LocalDateTime;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/items")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> createItem(@Valid @RequestBody NewItemDto newItemDto,
+                                                   @RequestHeader(value = "X-Sharer-User-Id") Long ownerId) {
+        log.info("Started creating new item");
+        return itemClient.create(ownerId, newItemDto)
+                .doOnSuccess(item -> log.info("Finished creating new item"));
+    }
+
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_NDJSON_VALUE, BulkItemParser.TEXT_CSV_VALUE})
+    public Mono<ResponseEntity<byte[]>> createItems(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
+                                                    @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    @RequestBody Flux<String> lines) {
+        log.info("Started importing items");
+        final Mono<ResponseEntity<byte[]>> items = lines.switchOnFirst((first, all) -> Mono
+                .fromCallable(() -> BulkItemParser.of(contentType, first::get, objectMapper, validator))
+                .flatMap(parser -> itemClient.createAll(ownerId, all.skip(parser.headerLines())
+                        .mapNotNull(parser::parse))))
+                .next();
+        return items.doOnSuccess(item -> log.info("Finished importing items"));
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> update(@RequestBody UpdateItemDto updateItemDto,
+                                               @PathVariable(value = "itemId") Long itemId,
+                                               @RequestHeader(value = "X-Sharer-User-Id") Long ownerId) {
+        log.info("Started updating item with id {}", itemId);
+        return itemClient.update(itemId, ownerId, updateItemDto)
+                .doOnSuccess(item -> log.info("Finished updating item with id {}", itemId));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAllItems(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId) {
+        log.info("Started getting all items");
+        return itemClient.getAllByUserId(ownerId)
+                .doOnSuccess(item -> log.info("Finished getting all items"));
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> getItemById(@PathVariable(value = "itemId") Long itemId,
+                                                    @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started getting item by id = {}", itemId);
+        return itemClient.getItemById(itemId, userId)
+                .doOnSuccess(item -> log.info("Finished getting item by id = {}", itemId));
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<byte[]>> getAvailability(@PathVariable(value = "itemId") Long itemId,
+                                                        @RequestParam(value = "from")
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                        LocalDateTime from,
+                                                        @RequestParam(value = "to")
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                        LocalDateTime to,
+                                                        @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started getting availability of item with id = {}", itemId);
+        GatewayValidation.checkPeriod(from, to);
+        return itemClient.getAvailability(itemId, userId, from, to)
+                .doOnSuccess(availability -> log.info("Finished getting availability of item with id = {}", itemId));
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<byte[]>> getBySearch(@RequestParam(value = "text") String text,
+                                                    @RequestParam(value = "from", defaultValue = "0") Integer from,
+                                                    @RequestParam(value = "size", defaultValue = "10") Integer size,
+                                                    @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started searching item contained text: {}", text);
+        GatewayValidation.checkPage(from, size);
+        return itemClient.getBySearch(userId, text, from, size)
+                .doOnSuccess(item -> log.info("Finished searching item contained text: {}", text));
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<byte[]>> createComment(@Valid @RequestBody NewCommentDto newCommentDto,
+                                                      @PathVariable(name = "itemId") Long itemId,
+                                                      @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started creating comment with itemId = {}", itemId);
+        return itemClient.createComment(itemId, userId, newCommentDto)
+                .doOnSuccess(comment -> log.info("Finished creating comment with itemId = {}", itemId));
+    }
+}
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.gateway.request;
+
+import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
+
+public interface ItemRequestApi<R> {
+    R createItemRequest(Long userId, NewItemRequestDto newItemRequestDto);
+
+    R getItemRequestsByUserId(Long userId);
+
+    R getItemRequestsByOther(Long userId);
+
+    R getItemRequestsById(Long requestId);
+}
@@ -3,37 +3,42 @@ package ru.practicum.shareit.gateway.request;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.gateway.client.BaseClient;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
 
 @Service
-public class ItemRequestClient extends BaseClient {
+@Conditional(BlockingGatewayCondition.class)
+public class ItemRequestClient extends BaseClient implements ItemRequestApi<ResponseEntity<Object>> {
     private static final String API_PREFIX = "/requests";
 
     @Autowired
     public ItemRequestClient(@Value("${shareit-server.url}") String url, RestTemplateBuilder builder) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(url + API_PREFIX))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
                 .build());
     }
 
+    @Override
     public ResponseEntity<Object> createItemRequest(Long userId, NewItemRequestDto newItemRequestDto) {
         return post("", userId, newItemRequestDto);
     }
 
+    @Override
     public ResponseEntity<Object> getItemRequestsByUserId(Long userId) {
         return get("", userId);
     }
 
+    @Override
     public ResponseEntity<Object> getItemRequestsByOther(Long userId) {
         return get("/all", userId);
     }
 
+    @Override
     public ResponseEntity<Object> getItemRequestsById(Long requestId) {
         return get("/%d".formatted(requestId));
     }
@@ -3,6 +3,7 @@ package ru.practicum.shareit.gateway.request;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,9 +12,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
 
 @Controller
+@Conditional(BlockingGatewayCondition.class)
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
 @Slf4j
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.gateway.request;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.client.ReactiveBaseClient;
+import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient
+        implements ItemRequestApi<Mono<ResponseEntity<byte[]>>> {
+    private static final String API_PREFIX = "/requests";
+
+    @Autowired
+    public ReactiveItemRequestClient(@Value("${shareit-server.url}") String url, WebClient.Builder builder) {
+        super(builder.baseUrl(url + API_PREFIX).build());
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> createItemRequest(Long userId, NewItemRequestDto newItemRequestDto) {
+        return post("", userId, newItemRequestDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getItemRequestsByUserId(Long userId) {
+        return get("", userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getItemRequestsByOther(Long userId) {
+        return get("/all", userId);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getItemRequestsById(Long requestId) {
+        return get("/%d".formatted(requestId));
+    }
+}
@@ -0,0 +1,58 @@
+package ru.practicum.shareit.gateway.request;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveItemRequestController {
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> createItemRequest(@Valid @RequestBody NewItemRequestDto newItemRequestDto,
+                                                          @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started creating new request by user with id = {}", userId);
+        return itemRequestClient.createItemRequest(userId, newItemRequestDto)
+                .doOnSuccess(itemRequest -> log.info("Finished creating new request by user with id = {}", userId));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getItemRequestsByUserId(
+            @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started getting all request with item by user with id = {}", userId);
+        return itemRequestClient.getItemRequestsByUserId(userId)
+                .doOnSuccess(itemRequests ->
+                        log.info("Finished getting all request with item by user with id = {}", userId));
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<byte[]>> getItemRequestsByOther(
+            @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+        log.info("Started getting all request with item by user with id not {}", userId);
+        return itemRequestClient.getItemRequestsByOther(userId)
+                .doOnSuccess(itemRequests ->
+                        log.info("Finished getting all request with item by user with id not {}", userId));
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<byte[]>> getItemRequestsById(@PathVariable(name = "requestId") Long requestId) {
+        log.info("Started getting all request with item by id = {}", requestId);
+        return itemRequestClient.getItemRequestsById(requestId)
+                .doOnSuccess(itemRequest -> log.info("Finished getting all request with item by id = {}", requestId));
+    }
+}
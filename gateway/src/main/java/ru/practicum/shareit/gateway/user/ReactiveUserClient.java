@@ -0,0 +1,48 @@
+package ru.practicum.shareit.gateway.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.client.ReactiveBaseClient;
+import ru.practicum.shareit.gateway.user.dto.NewUserDto;
+import ru.practicum.shareit.gateway.user.dto.UpdateUserDto;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient implements UserApi<Mono<ResponseEntity<byte[]>>> {
+    private static final String API_PREFIX = "/users";
+
+    @Autowired
+    public ReactiveUserClient(@Value("${shareit-server.url}") String url, WebClient.Builder builder) {
+        super(builder.baseUrl(url + API_PREFIX).build());
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> create(NewUserDto newUser) {
+        return post("", newUser);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getAll() {
+        return get("");
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> getById(Long userId) {
+        return get("/%d".formatted(userId));
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> update(Long userId, UpdateUserDto updateUserDto) {
+        return patch("/%d".formatted(userId), updateUserDto);
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> delete(Long userId) {
+        return delete("/%d".formatted(userId));
+    }
+}
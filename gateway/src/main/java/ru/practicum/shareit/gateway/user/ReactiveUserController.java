@@ -0,0 +1,63 @@
+package ru.practicum.shareit.gateway.user;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.user.dto.NewUserDto;
+import ru.practicum.shareit.gateway.user.dto.UpdateUserDto;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> create(@Valid @RequestBody NewUserDto newUserDto) {
+        log.info("Started creating new user");
+        return userClient.create(newUserDto)
+                .doOnSuccess(user -> log.info("Finished creating new user"));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getAll() {
+        log.info("Started getting all users");
+        return userClient.getAll()
+                .doOnSuccess(users -> log.info("Finished getting all users"));
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> getUserById(@PathVariable(value = "userId") Long id) {
+        log.info("Started getting user by id = {}", id);
+        return userClient.getById(id)
+                .doOnSuccess(user -> log.info("Finished getting user by id = {}", id));
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> update(@Valid @RequestBody UpdateUserDto updateUserDto,
+                                               @PathVariable(value = "userId") Long id) {
+        log.info("Started updating user by id = {}", id);
+        return userClient.update(id, updateUserDto)
+                .doOnSuccess(user -> log.info("Finished updating user by id = {}", id));
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> deleteUser(@PathVariable(value = "userId") Long id) {
+        log.info("Started deleting user by id = {}", id);
+        return userClient.delete(id)
+                .doOnSuccess(user -> log.info("Finished deleting user by id = {}", id));
+    }
+}
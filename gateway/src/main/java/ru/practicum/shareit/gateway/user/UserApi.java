@@ -0,0 +1,16 @@
+package ru.practicum.shareit.gateway.user;
+
+import ru.practicum.shareit.gateway.user.dto.NewUserDto;
+import ru.practicum.shareit.gateway.user.dto.UpdateUserDto;
+
+public interface UserApi<R> {
+    R create(NewUserDto newUser);
+
+    R getAll();
+
+    R getById(Long userId);
+
+    R update(Long userId, UpdateUserDto updateUserDto);
+
+    R delete(Long userId);
+}
@@ -3,43 +3,49 @@ package ru.practicum.shareit.gateway.user;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.gateway.client.BaseClient;
+import ru.practicum.shareit.gateway.config.BlockingGatewayCondition;
 import ru.practicum.shareit.gateway.user.dto.NewUserDto;
 import ru.practicum.shareit.gateway.user.dto.UpdateUserDto;
 
 @Service
-public class UserClient extends BaseClient {
+@Conditional(BlockingGatewayCondition.class)
+public class UserClient extends BaseClient implements UserApi<ResponseEntity<Object>> {
     private static final String API_PREFIX = "/users";
 
     @Autowired
     public UserClient(@Value("${shareit-server.url}") String url, RestTemplateBuilder builder) {
         super(builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(url + API_PREFIX))
-                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory())
                 .build()
         );
     }
 
+    @Override
     public ResponseEntity<Object> create(NewUserDto newUser) {
         return post("", newUser);
     }
 
+    @Override
     public ResponseEntity<Object> getAll() {
         return get("");
     }
 
+    @Override
     public ResponseEntity<Object> getById(Long userId) {
         return get("/%d".formatted(userId));
     }
 
+    @Override
     public ResponseEntity<Object> update(Long userId, UpdateUserDto updateUserDto) {
         return patch("/%d".formatted(userId), updateUserDto);
     }
 
+    @Override
     public ResponseEntity<Object> delete(Long userId) {
         return delete("/%d".formatted(userId));
     }
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.gateway.validation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
+import ru.practicum.shareit.gateway.exception.InvalidRequestException;
+
+import java.time.LocalDateTime;
+
+// checks shared by the blocking and the reactive controllers
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GatewayValidation {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static void checkBookingTime(NewBookingDto newBookingDto) {
+        LocalDateTime now = LocalDateTime.now().minusSeconds(5);
+        if (newBookingDto.getStart().isAfter(newBookingDto.getEnd())
+                || newBookingDto.getEnd().equals(newBookingDto.getStart())
+                || newBookingDto.getEnd().isBefore(now)
+                || newBookingDto.getStart().isBefore(now)) {
+            log.warn("Booking has invalid time");
+            throw new InvalidRequestException("Booking has invalid time");
+        }
+    }
+
+    public static void checkSize(Integer size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Page size {} is not valid", size);
+            throw new InvalidRequestException(String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+    }
+
+    public static void checkPage(Integer from, Integer size) {
+        if (from < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Page from {} size {} is not valid", from, size);
+            throw new InvalidRequestException(String.format("Page from must be >= 0 and size in 1..%d", MAX_PAGE_SIZE));
+        }
+    }
+
+    public static void checkPeriod(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            log.warn("Period from {} to {} is not valid", from, to);
+            throw new InvalidRequestException("Period from must be before to");
+        }
+    }
+}
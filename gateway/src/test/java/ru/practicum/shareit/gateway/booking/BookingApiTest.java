@@ -0,0 +1,155 @@
+package ru.practicum.shareit.gateway.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
+import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
+import ru.practicum.shareit.gateway.booking.dto.State;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// cases shared by the blocking and the reactive client, both call a local server that records the last request
+abstract class BookingApiTest<R> {
+    private static final String HEADER = "X-Sharer-User-Id";
+    private static final String BODY = "{\"id\":1}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpServer server;
+    private BookingApi<R> bookingClient;
+    private volatile String method;
+    private volatile String uri;
+    private volatile HttpHeaders headers;
+    private volatile String body;
+
+    protected abstract BookingApi<R> bookingClient(String serverUrl);
+
+    protected abstract ResponseEntity<byte[]> execute(R response);
+
+    @BeforeEach
+    @SneakyThrows
+    void setUp() {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            method = exchange.getRequestMethod();
+            uri = exchange.getRequestURI().toString();
+            headers = new HttpHeaders();
+            exchange.getRequestHeaders().forEach(headers::addAll);
+            body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+            exchange.getResponseHeaders().set("X-Next-Cursor", "next");
+            exchange.sendResponseHeaders(HttpStatus.OK.value(), 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.start();
+        bookingClient = bookingClient("http://localhost:%d".formatted(server.getAddress().getPort()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void create() {
+        NewBookingDto newBookingDto = new NewBookingDto(LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), 1L);
+
+        ResponseEntity<byte[]> response = execute(bookingClient.create(1L, newBookingDto));
+
+        assertEquals("POST", method);
+        assertEquals("/bookings", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+        assertEquals(MediaType.APPLICATION_JSON, headers.getContentType());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SneakyThrows
+    void updateAll() {
+        BookingApprovalsDto approvals = new BookingApprovalsDto(List.of(new BookingApprovalDto(1L, Boolean.TRUE)));
+
+        ResponseEntity<byte[]> response = execute(bookingClient.updateAll(1L, approvals));
+
+        assertEquals("PATCH", method);
+        assertEquals("/bookings/approvals", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsBytes(approvals)), objectMapper.readTree(body));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+    }
+
+    @Test
+    void update() {
+        execute(bookingClient.update(2L, 1L, true));
+
+        assertEquals("PATCH", method);
+        assertEquals("/bookings/2?approved=true", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+    }
+
+    @Test
+    void getById() {
+        ResponseEntity<byte[]> response = execute(bookingClient.getById(2L, 1L));
+
+        assertEquals("GET", method);
+        assertEquals("/bookings/2", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+        assertEquals(BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getAllByState() {
+        execute(bookingClient.getAllByState(1L, State.ALL, null, 20));
+
+        assertEquals("GET", method);
+        assertEquals("/bookings?state=ALL&size=20", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+    }
+
+    @Test
+    void getAllByOwner() {
+        ResponseEntity<byte[]> response = execute(bookingClient.getAllByOwner(1L, State.PAST, "current", 5));
+
+        assertEquals("GET", method);
+        assertEquals("/bookings/owner?state=PAST&cursor=current&size=5", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+        assertEquals("next", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertNull(response.getHeaders().getFirst(HttpHeaders.TRANSFER_ENCODING));
+    }
+
+    @Test
+    void getSummary() {
+        execute(bookingClient.getSummary(1L));
+
+        assertEquals("GET", method);
+        assertEquals("/bookings/summary", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+    }
+
+    @Test
+    void getOwnerSummary() {
+        execute(bookingClient.getOwnerSummary(1L));
+
+        assertEquals("GET", method);
+        assertEquals("/bookings/owner/summary", uri);
+        assertEquals("1", headers.getFirst(HEADER));
+    }
+}
@@ -6,20 +6,25 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
 import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
 import ru.practicum.shareit.gateway.booking.dto.State;
 
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -29,6 +34,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -36,8 +42,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class BookingControllerTestIT {
     private static final String API_PREFIX = "/bookings";
     private final NewBookingDto newBookingDto = new NewBookingDto(
-            LocalDateTime.of(2024, Month.NOVEMBER, 10, 10, 10, 10),
-            LocalDateTime.of(2024, Month.NOVEMBER, 10, 10, 11, 10),
+            LocalDateTime.now().plusDays(1),
+            LocalDateTime.now().plusDays(2),
             1L
     );
 
@@ -99,6 +105,41 @@ class BookingControllerTestIT {
         verify(bookingClient, never()).create(anyLong(), any(NewBookingDto.class));
     }
 
+    @Test
+    @SneakyThrows
+    void updateAll_WhenApprovalsValid_ThenReturnOk() {
+        BookingApprovalsDto approvals = new BookingApprovalsDto(List.of(new BookingApprovalDto(1L, Boolean.TRUE)));
+
+        when(bookingClient.updateAll(anyLong(), any(BookingApprovalsDto.class)))
+                .thenReturn(new ResponseEntity<>(approvals.getApprovals(), HttpStatus.OK));
+
+        mvc.perform(patch(API_PREFIX + "/approvals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(objectMapper.writeValueAsString(approvals)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bookingId", is(1L), Long.class));
+        verify(bookingClient, times(1)).updateAll(1L, approvals);
+    }
+
+    @Test
+    @SneakyThrows
+    void updateAll_WhenApprovalNotValid_ThenReturnBadRequest() {
+        BookingApprovalsDto approvals = new BookingApprovalsDto(List.of(new BookingApprovalDto(1L, null)));
+
+        mvc.perform(patch(API_PREFIX + "/approvals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(objectMapper.writeValueAsString(approvals)))
+                .andExpect(status().isBadRequest());
+        mvc.perform(patch(API_PREFIX + "/approvals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(objectMapper.writeValueAsString(new BookingApprovalsDto(List.of()))))
+                .andExpect(status().isBadRequest());
+        verify(bookingClient, never()).updateAll(anyLong(), any(BookingApprovalsDto.class));
+    }
+
     @Test
     @SneakyThrows
     void updateBooking_WhenNewBookingDtoValid_ThenReturnOk() {
@@ -129,7 +170,7 @@ class BookingControllerTestIT {
     @Test
     @SneakyThrows
     void getAllByState_WhenStateValid_ThenReturnOk() {
-        when(bookingClient.getAllByState(anyLong(), any(State.class)))
+        when(bookingClient.getAllByState(anyLong(), any(State.class), any(), anyInt()))
                 .thenReturn(new ResponseEntity<>(List.of(newBookingDto), HttpStatus.OK));
 
         mvc.perform(get(API_PREFIX)
@@ -139,13 +180,13 @@ class BookingControllerTestIT {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].itemId", is(newBookingDto.getItemId()), Long.class));
-        verify(bookingClient, times(1)).getAllByState(anyLong(), any(State.class));
+        verify(bookingClient, times(1)).getAllByState(1L, State.ALL, null, 20);
     }
 
     @Test
     @SneakyThrows
     void getAllByState_WhenStateNotValid_ThenReturnBadRequest() {
-        when(bookingClient.getAllByState(anyLong(), any(State.class)))
+        when(bookingClient.getAllByState(anyLong(), any(State.class), any(), anyInt()))
                 .thenReturn(new ResponseEntity<>(List.of(newBookingDto), HttpStatus.OK));
 
         mvc.perform(get(API_PREFIX)
@@ -153,13 +194,27 @@ class BookingControllerTestIT {
                         .queryParam("state", "InvalidState")
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isBadRequest());
-        verify(bookingClient, never()).getAllByState(anyLong(), any(State.class));
+        verify(bookingClient, never()).getAllByState(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    void getOwnerSummary_WhenUserPassed_ThenReturnOk() {
+        when(bookingClient.getOwnerSummary(anyLong()))
+                .thenReturn(new ResponseEntity<>(Map.of("waiting", 3), HttpStatus.OK));
+
+        mvc.perform(get(API_PREFIX + "/owner/summary")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.waiting", is(3)));
+        verify(bookingClient, times(1)).getOwnerSummary(1L);
+        verify(bookingClient, never()).getSummary(anyLong());
     }
 
     @Test
     @SneakyThrows
     void getAllByOwner_WhenStateValid_ThenReturnOk() {
-        when(bookingClient.getAllByOwner(anyLong(), any(State.class)))
+        when(bookingClient.getAllByOwner(anyLong(), any(State.class), any(), anyInt()))
                 .thenReturn(new ResponseEntity<>(List.of(newBookingDto), HttpStatus.OK));
 
         mvc.perform(get(API_PREFIX + "/owner")
@@ -168,13 +223,13 @@ class BookingControllerTestIT {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].itemId", is(newBookingDto.getItemId()), Long.class));
-        verify(bookingClient, times(1)).getAllByOwner(anyLong(), any(State.class));
+        verify(bookingClient, times(1)).getAllByOwner(1L, State.ALL, null, 20);
     }
 
     @Test
     @SneakyThrows
     void getAllByOwner_WhenStateNotValid_ThenReturnBadRequest() {
-        when(bookingClient.getAllByOwner(anyLong(), any(State.class)))
+        when(bookingClient.getAllByOwner(anyLong(), any(State.class), any(), anyInt()))
                 .thenReturn(new ResponseEntity<>(newBookingDto, HttpStatus.OK));
 
         mvc.perform(get(API_PREFIX + "/owner")
@@ -182,6 +237,35 @@ class BookingControllerTestIT {
                         .queryParam("state", "InvalidState")
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isBadRequest());
-        verify(bookingClient, never()).getAllByOwner(anyLong(), any(State.class));
+        verify(bookingClient, never()).getAllByOwner(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByOwner_WhenCursorPassed_ThenReturnNextCursor() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "next");
+        when(bookingClient.getAllByOwner(anyLong(), any(State.class), any(), anyInt()))
+                .thenReturn(new ResponseEntity<>(List.of(newBookingDto), headers, HttpStatus.OK));
+
+        mvc.perform(get(API_PREFIX + "/owner")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .queryParam("cursor", "current")
+                        .queryParam("size", "1")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "next"));
+        verify(bookingClient, times(1)).getAllByOwner(1L, State.ALL, "current", 1);
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByState_WhenSizeNotValid_ThenReturnBadRequest() {
+        mvc.perform(get(API_PREFIX)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .queryParam("size", "0")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest());
+        verify(bookingClient, never()).getAllByState(anyLong(), any(State.class), any(), anyInt());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.gateway.booking;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ReactiveBookingClientTest extends BookingApiTest<Mono<ResponseEntity<byte[]>>> {
+    @Override
+    protected BookingApi<Mono<ResponseEntity<byte[]>>> bookingClient(String serverUrl) {
+        return new ReactiveBookingClient(serverUrl, WebClient.builder());
+    }
+
+    @Override
+    protected ResponseEntity<byte[]> execute(Mono<ResponseEntity<byte[]>> response) {
+        return response.block();
+    }
+}
@@ -0,0 +1,235 @@
+package ru.practicum.shareit.gateway.booking;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.gateway.booking.dto.BookingApprovalsDto;
+import ru.practicum.shareit.gateway.booking.dto.NewBookingDto;
+import ru.practicum.shareit.gateway.booking.dto.State;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveBookingController.class)
+class ReactiveBookingControllerTestIT {
+    private static final String API_PREFIX = "/bookings";
+    private final NewBookingDto newBookingDto = new NewBookingDto(
+            LocalDateTime.now().plusDays(1),
+            LocalDateTime.now().plusDays(2),
+            1L
+    );
+
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createBooking_WhenNewBookingDtoValid_ThenReturnOk() {
+        when(bookingClient.create(anyLong(), any(NewBookingDto.class))).thenReturn(ok(newBookingDto));
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(newBookingDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.itemId").isEqualTo(newBookingDto.getItemId().intValue());
+        verify(bookingClient, times(1)).create(anyLong(), any(NewBookingDto.class));
+    }
+
+    @Test
+    void createBooking_WhenNewBookingDtoNotValid_ThenReturnBadRequest() {
+        NewBookingDto badBookingDto = new NewBookingDto(
+                LocalDateTime.of(2024, Month.NOVEMBER, 10, 10, 10, 10),
+                LocalDateTime.of(2024, Month.NOVEMBER, 10, 10, 11, 10),
+                null
+        );
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(badBookingDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(bookingClient, never()).create(anyLong(), any(NewBookingDto.class));
+    }
+
+    @Test
+    void createBooking_WhenDateNotValid_ThenReturnBadRequest() {
+        NewBookingDto newBookingDto = new NewBookingDto(
+                LocalDateTime.of(2020, Month.AUGUST, 10, 10, 10, 10),
+                LocalDateTime.of(2020, Month.AUGUST, 10, 10, 10, 10),
+                1L);
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(newBookingDto)
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(bookingClient, never()).create(anyLong(), any(NewBookingDto.class));
+    }
+
+    @Test
+    void updateBooking_WhenNewBookingDtoValid_ThenReturnOk() {
+        when(bookingClient.update(anyLong(), anyLong(), anyBoolean())).thenReturn(ok(newBookingDto));
+
+        webClient.patch().uri(API_PREFIX + "/{bookingId}?approved={approved}", 1L, Boolean.TRUE)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk();
+        verify(bookingClient, times(1)).update(1L, 1L, Boolean.TRUE);
+    }
+
+    @Test
+    void updateAll_WhenApprovalsValid_ThenReturnOk() {
+        BookingApprovalsDto approvals = new BookingApprovalsDto(List.of(new BookingApprovalDto(1L, Boolean.FALSE)));
+        when(bookingClient.updateAll(anyLong(), any(BookingApprovalsDto.class))).thenReturn(ok(approvals));
+
+        webClient.patch().uri(API_PREFIX + "/approvals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(approvals)
+                .exchange()
+                .expectStatus().isOk();
+        verify(bookingClient, times(1)).updateAll(1L, approvals);
+    }
+
+    @Test
+    void updateAll_WhenApprovalNotValid_ThenReturnBadRequest() {
+        webClient.patch().uri(API_PREFIX + "/approvals")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(new BookingApprovalsDto(List.of(new BookingApprovalDto(null, Boolean.TRUE))))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(bookingClient, never()).updateAll(anyLong(), any(BookingApprovalsDto.class));
+    }
+
+    @Test
+    void getById_WhenIdValid_ThenReturnOk() {
+        when(bookingClient.getById(anyLong(), anyLong())).thenReturn(ok(newBookingDto));
+
+        webClient.get().uri(API_PREFIX + "/{bookingId}", 1L)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk();
+        verify(bookingClient, times(1)).getById(anyLong(), anyLong());
+    }
+
+    @Test
+    void getAllByState_WhenStateValid_ThenReturnOk() {
+        when(bookingClient.getAllByState(anyLong(), any(State.class), any(), anyInt()))
+                .thenReturn(ok(List.of(newBookingDto)));
+
+        webClient.get().uri(API_PREFIX + "?state={state}", State.ALL.name())
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].itemId").isEqualTo(newBookingDto.getItemId().intValue());
+        verify(bookingClient, times(1)).getAllByState(1L, State.ALL, null, 20);
+    }
+
+    @Test
+    void getAllByState_WhenStateNotValid_ThenReturnBadRequest() {
+        webClient.get().uri(API_PREFIX + "?state={state}", "InvalidState")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(bookingClient, never()).getAllByState(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @Test
+    void getSummary_WhenUserPassed_ThenReturnOk() {
+        when(bookingClient.getSummary(anyLong())).thenReturn(ok(Map.of("current", 2)));
+
+        webClient.get().uri(API_PREFIX + "/summary")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.current").isEqualTo(2);
+        verify(bookingClient, times(1)).getSummary(1L);
+    }
+
+    @Test
+    void getAllByOwner_WhenStateValid_ThenReturnOk() {
+        when(bookingClient.getAllByOwner(anyLong(), any(State.class), any(), anyInt()))
+                .thenReturn(ok(List.of(newBookingDto)));
+
+        webClient.get().uri(API_PREFIX + "/owner")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].itemId").isEqualTo(newBookingDto.getItemId().intValue());
+        verify(bookingClient, times(1)).getAllByOwner(1L, State.ALL, null, 20);
+    }
+
+    @Test
+    void getAllByOwner_WhenStateNotValid_ThenReturnBadRequest() {
+        webClient.get().uri(API_PREFIX + "/owner?state={state}", "InvalidState")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(bookingClient, never()).getAllByOwner(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByOwner_WhenCursorPassed_ThenReturnNextCursor() {
+        when(bookingClient.getAllByOwner(anyLong(), any(State.class), any(), anyInt()))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Next-Cursor", "next")
+                        .body(objectMapper.writeValueAsBytes(List.of(newBookingDto)))));
+
+        webClient.get().uri(API_PREFIX + "/owner?cursor={cursor}&size={size}", "current", 1)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "next");
+        verify(bookingClient, times(1)).getAllByOwner(1L, State.ALL, "current", 1);
+    }
+
+    @Test
+    void getAllByState_WhenSizeNotValid_ThenReturnBadRequest() {
+        webClient.get().uri(API_PREFIX + "?size={size}", 0)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(bookingClient, never()).getAllByState(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @SneakyThrows
+    private Mono<ResponseEntity<byte[]>> ok(Object body) {
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(body)));
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.gateway.config;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import ru.practicum.shareit.gateway.exception.ServerBusyException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrencyLimitRequestFactoryTest {
+    private final URI uri = URI.create("http://localhost:9090/items");
+    private final ClientHttpRequestFactory requestFactory = (requestUri, method) -> {
+        MockClientHttpRequest request = new MockClientHttpRequest(method, requestUri);
+        request.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        return request;
+    };
+
+    @Test
+    @SneakyThrows
+    void executeWhenPermitsTakenThenWaitsUntilResponseClosed() {
+        Semaphore permits = new Semaphore(1);
+        ConcurrencyLimitRequestFactory factory = new ConcurrencyLimitRequestFactory(requestFactory, permits,
+                Duration.ofMillis(50));
+
+        ClientHttpResponse first = factory.createRequest(uri, HttpMethod.GET).execute();
+
+        ClientHttpRequest waiting = factory.createRequest(uri, HttpMethod.GET);
+        assertThrows(ServerBusyException.class, waiting::execute);
+
+        first.close();
+        first.close();
+        ClientHttpResponse second = factory.createRequest(uri, HttpMethod.GET).execute();
+
+        assertEquals(HttpStatus.OK, second.getStatusCode());
+        assertEquals(0, permits.availablePermits());
+        second.close();
+        assertEquals(1, permits.availablePermits());
+    }
+
+    @Test
+    @SneakyThrows
+    void executeWhenExecutionFailsThenReleasesPermit() {
+        Semaphore permits = new Semaphore(1);
+        ConcurrencyLimitRequestFactory factory = new ConcurrencyLimitRequestFactory(
+                (requestUri, method) -> new MockClientHttpRequest(method, requestUri) {
+                    @Override
+                    protected ClientHttpResponse executeInternal() throws IOException {
+                        throw new IOException("Connection refused");
+                    }
+                }, permits, Duration.ofMillis(50));
+
+        ClientHttpRequest request = factory.createRequest(uri, HttpMethod.GET);
+
+        assertThrows(IOException.class, request::execute);
+        assertEquals(1, permits.availablePermits());
+    }
+
+    @Test
+    @SneakyThrows
+    void executeWhenRequestNotStreamingThenWritesBody() {
+        MockClientHttpRequest delegate = new MockClientHttpRequest(HttpMethod.POST, uri);
+        delegate.setResponse(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+        ConcurrencyLimitRequestFactory factory = new ConcurrencyLimitRequestFactory((requestUri, method) -> delegate,
+                new Semaphore(1), Duration.ofMillis(50));
+
+        ClientHttpRequest request = factory.createRequest(uri, HttpMethod.POST);
+        ((StreamingHttpOutputMessage) request).setBody(out -> out.write("line\n".getBytes(StandardCharsets.UTF_8)));
+        request.execute().close();
+
+        assertEquals("line\n", delegate.getBodyAsString());
+    }
+}
@@ -15,8 +15,12 @@ import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
 import ru.practicum.shareit.gateway.item.dto.NewItemDto;
 import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -69,12 +73,35 @@ class ItemClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemClient.create(ownerId, newItemDto);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
     }
 
+    @Test
+    @SneakyThrows
+    void createAll() {
+        Long ownerId = 1L;
+        String lines = "{\"line\":1,\"name\":\"name\"}\n";
+        String imported = "{\"created\":1,\"failed\":0}";
+
+        mockServer.expect(requestTo(serverUrl + "/bulk"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(header(HEADER, ownerId.toString()))
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(lines))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .body(imported)
+                        .contentType(MediaType.APPLICATION_JSON));
+        ResponseEntity<Object> responseEntity = itemClient.createAll(ownerId,
+                out -> out.write(lines.getBytes(StandardCharsets.UTF_8)));
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
+
+        assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
+        assertEquals(responseBody, imported);
+    }
+
     @Test
     @SneakyThrows
     void update() {
@@ -87,7 +114,7 @@ class ItemClientTest {
                         .body(updateBody)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemClient.update(itemId, userId, updateItemDto);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, updateBody);
@@ -98,14 +125,15 @@ class ItemClientTest {
     void getAllByUserId() {
         Long userId = 1L;
 
-        mockServer.expect(requestTo(serverUrl + "/%d".formatted(userId)))
+        mockServer.expect(requestTo(serverUrl))
                 .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HEADER, userId.toString()))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andRespond(withStatus(HttpStatus.OK)
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemClient.getAllByUserId(userId);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -124,7 +152,7 @@ class ItemClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemClient.getItemById(itemId, userId);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -136,19 +164,40 @@ class ItemClientTest {
         Long userId = 1L;
         String search = "name";
 
-        mockServer.expect(requestTo(serverUrl + "/search?text=%s".formatted(search)))
+        mockServer.expect(requestTo(serverUrl + "/search?text=%s&from=%d&size=%d".formatted(search, 0, 10)))
                 .andExpect(method(HttpMethod.GET))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andRespond(withStatus(HttpStatus.OK)
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
-        ResponseEntity<Object> responseEntity = itemClient.getBySearch(userId, search);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        ResponseEntity<Object> responseEntity = itemClient.getBySearch(userId, search, 0, 10);
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
     }
 
+    @Test
+    @SneakyThrows
+    void getAvailability() {
+        Long userId = 1L;
+        Long itemId = 1L;
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        mockServer.expect(requestTo(serverUrl + "/%d/availability?from=2030-01-01T10%%3A00&to=2030-01-02T10%%3A00"
+                        .formatted(itemId)))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", userId.toString()))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .body(body)
+                        .contentType(MediaType.APPLICATION_JSON));
+        ResponseEntity<Object> responseEntity = itemClient.getAvailability(itemId, userId, from, to);
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
+
+        assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
+        assertEquals(responseBody, body);
+    }
 
     @Test
     @SneakyThrows
@@ -163,7 +212,7 @@ class ItemClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemClient.createComment(itemId, userId, newCommentDto);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -0,0 +1,90 @@
+package ru.practicum.shareit.gateway.item;
+
+import com.sun.net.httpserver.HttpServer;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"spring.threads.virtual.enabled=true", "shareit.tracing.log-spans=false"})
+class ItemClientVirtualThreadsTestIT {
+    private static final String FIRST_LINE = "{\"line\":1,\"name\":\"name\"}";
+    private static final String SECOND_LINE = "{\"line\":2,\"name\":\"name2\"}";
+    private static final String IMPORTED = "{\"created\":2,\"failed\":0}";
+    private static final CountDownLatch firstLineReceived = new CountDownLatch(1);
+    private static final HttpServer server = startServer();
+
+    @Autowired
+    private ItemClient itemClient;
+
+    @DynamicPropertySource
+    static void serverUrl(DynamicPropertyRegistry registry) {
+        registry.add("shareit-server.url", () -> "http://localhost:%d".formatted(server.getAddress().getPort()));
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @SneakyThrows
+    void createAllWhenVirtualThreadsThenSendsLinesBeforeBodyEnds() {
+        AtomicBoolean streamed = new AtomicBoolean();
+
+        ResponseEntity<Object> responseEntity = itemClient.createAll(1L, out -> {
+            out.write((FIRST_LINE + "\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            try {
+                streamed.set(firstLineReceived.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            out.write((SECOND_LINE + "\n").getBytes(StandardCharsets.UTF_8));
+        });
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
+
+        assertTrue(streamed.get(), "First line did not reach the server before the body was complete");
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(IMPORTED, responseBody);
+    }
+
+    @SneakyThrows
+    private static HttpServer startServer() {
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpServer.createContext("/items/bulk", exchange -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(exchange.getRequestBody(),
+                    StandardCharsets.UTF_8));
+            if (FIRST_LINE.equals(reader.readLine())) {
+                firstLineReceived.countDown();
+            }
+            reader.transferTo(Writer.nullWriter());
+            byte[] body = IMPORTED.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(HttpStatus.OK.value(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        httpServer.start();
+        return httpServer;
+    }
+}
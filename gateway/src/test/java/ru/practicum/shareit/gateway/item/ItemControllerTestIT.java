@@ -9,15 +9,21 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
 import ru.practicum.shareit.gateway.item.dto.NewItemDto;
 import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
@@ -75,6 +81,68 @@ class ItemControllerTestIT {
         verify(itemClient, never()).create(anyLong(), any(NewItemDto.class));
     }
 
+    @Test
+    @SneakyThrows
+    void createItems_WhenCsv_ThenStreamValidatedLines() {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        when(itemClient.createAll(anyLong(), any(StreamingHttpOutputMessage.Body.class))).thenAnswer(invocation -> {
+            invocation.<StreamingHttpOutputMessage.Body>getArgument(1).writeTo(lines);
+            return new ResponseEntity<>("{\"created\":1,\"failed\":2}", HttpStatus.OK);
+        });
+
+        mvc.perform(post(API_PREFIX + "/bulk")
+                        .contentType(BulkItemParser.TEXT_CSV_VALUE)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content("""
+                                name,description,available,requestId
+                                drill,"cordless drill, 18V",true,1
+                                ,saw,true,
+                                hammer,claw hammer,yes,
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)));
+        assertEquals("""
+                {"line":2,"name":"drill","description":"cordless drill, 18V","available":true,"requestId":1,"error":null}
+                {"line":3,"name":null,"description":null,"available":null,"requestId":null,"error":"name: must not be blank"}
+                {"line":4,"name":null,"description":null,"available":null,"requestId":null,"error":"available: must be true or false"}
+                """, lines.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SneakyThrows
+    void createItems_WhenNdjson_ThenStreamValidatedLines() {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        when(itemClient.createAll(anyLong(), any(StreamingHttpOutputMessage.Body.class))).thenAnswer(invocation -> {
+            invocation.<StreamingHttpOutputMessage.Body>getArgument(1).writeTo(lines);
+            return new ResponseEntity<>("{\"created\":1,\"failed\":1}", HttpStatus.OK);
+        });
+
+        mvc.perform(post(API_PREFIX + "/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content("""
+                                {"name":"drill","description":"cordless drill","available":true}
+
+                                not json
+                                """))
+                .andExpect(status().isOk());
+        assertEquals("""
+                {"line":1,"name":"drill","description":"cordless drill","available":true,"requestId":null,"error":null}
+                {"line":3,"name":null,"description":null,"available":null,"requestId":null,"error":"Item must be a JSON object with name, description, available and requestId"}
+                """, lines.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SneakyThrows
+    void createItems_WhenCsvHeaderNotValid_ThenReturnBadRequest() {
+        mvc.perform(post(API_PREFIX + "/bulk")
+                        .contentType(BulkItemParser.TEXT_CSV_VALUE)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content("name,price\ndrill,10\n"))
+                .andExpect(status().isBadRequest());
+        verify(itemClient, never()).createAll(anyLong(), any(StreamingHttpOutputMessage.Body.class));
+    }
+
     @Test
     @SneakyThrows
     void updateItem_WhenUpdateItemDtoValid_ThenReturnOk() {
@@ -131,7 +199,7 @@ class ItemControllerTestIT {
     void getBySearch_WhenSearchValid_ThenReturnOk() {
         NewItemDto newItemDtoValid = new NewItemDto("name", "description", Boolean.TRUE, 1L);
 
-        when(itemClient.getBySearch(anyLong(), anyString()))
+        when(itemClient.getBySearch(anyLong(), anyString(), anyInt(), anyInt()))
                 .thenReturn(new ResponseEntity<>(newItemDtoValid, HttpStatus.OK));
 
         mvc.perform(get(API_PREFIX + "/search")
@@ -141,7 +209,50 @@ class ItemControllerTestIT {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.name", is(newItemDtoValid.getName())));
-        verify(itemClient, times(1)).getBySearch(anyLong(), anyString());
+        verify(itemClient, times(1)).getBySearch(1L, "search", 0, 10);
+    }
+
+    @Test
+    @SneakyThrows
+    void getBySearch_WhenFromNotValid_ThenReturnBadRequest() {
+        mvc.perform(get(API_PREFIX + "/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .queryParam("text", "search")
+                        .queryParam("from", "-1")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest());
+        verify(itemClient, never()).getBySearch(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAvailability_WhenPeriodValid_ThenReturnOk() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        when(itemClient.getAvailability(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new ResponseEntity<>(List.of(), HttpStatus.OK));
+
+        mvc.perform(get(API_PREFIX + "/{itemId}/availability", 1L)
+                        .queryParam("from", from.toString())
+                        .queryParam("to", to.toString())
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk());
+        verify(itemClient, times(1)).getAvailability(1L, 1L, from, to);
+    }
+
+    @Test
+    @SneakyThrows
+    void getAvailability_WhenFromIsNotBeforeTo_ThenReturnBadRequest() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        mvc.perform(get(API_PREFIX + "/{itemId}/availability", 1L)
+                        .queryParam("from", from.toString())
+                        .queryParam("to", from.toString())
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest());
+        verify(itemClient, never())
+                .getAvailability(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -0,0 +1,236 @@
+package ru.practicum.shareit.gateway.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.item.dto.NewCommentDto;
+import ru.practicum.shareit.gateway.item.dto.NewItemDto;
+import ru.practicum.shareit.gateway.item.dto.UpdateItemDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveItemController.class)
+class ReactiveItemControllerTestIT {
+    private static final String API_PREFIX = "/items";
+    private final NewItemDto newItemDtoValid = new NewItemDto("name", "description", Boolean.TRUE, 1L);
+
+    @MockBean
+    private ReactiveItemClient itemClient;
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createItem_WhenNewItemDtoValid_ThenReturnOk() {
+        when(itemClient.create(anyLong(), any(NewItemDto.class))).thenReturn(ok(newItemDtoValid));
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(newItemDtoValid)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.requestId").isEqualTo(newItemDtoValid.getRequestId().intValue());
+        verify(itemClient, times(1)).create(anyLong(), any(NewItemDto.class));
+    }
+
+    @Test
+    void createItem_WhenNewItemDtoNotValid_ThenReturnBadRequest() {
+        NewItemDto newItemDtoNotValid = new NewItemDto("", "description", Boolean.TRUE, 1L);
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(newItemDtoNotValid)
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(itemClient, never()).create(anyLong(), any(NewItemDto.class));
+    }
+
+    @Test
+    void createItems_WhenCsv_ThenStreamValidatedLines() {
+        when(itemClient.createAll(anyLong(), any())).thenAnswer(invocation -> Flux
+                .from(invocation.<Publisher<String>>getArgument(1))
+                .collectList()
+                .map(lines -> ResponseEntity.ok(String.join("", lines).getBytes(StandardCharsets.UTF_8))));
+
+        webClient.post().uri(API_PREFIX + "/bulk")
+                .contentType(MediaType.parseMediaType(BulkItemParser.TEXT_CSV_VALUE))
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue("""
+                        description,name,available
+                        "cordless drill, 18V",drill,true
+                        saw,,true
+                        """)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("""
+                        {"line":2,"name":"drill","description":"cordless drill, 18V","available":true,"requestId":null,"error":null}
+                        {"line":3,"name":null,"description":null,"available":null,"requestId":null,"error":"name: must not be blank"}
+                        """);
+    }
+
+    @Test
+    void createItems_WhenCsvHeaderNotValid_ThenReturnBadRequest() {
+        webClient.post().uri(API_PREFIX + "/bulk")
+                .contentType(MediaType.parseMediaType(BulkItemParser.TEXT_CSV_VALUE))
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue("name,price\ndrill,10\n")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(itemClient, never()).createAll(anyLong(), any());
+    }
+
+    @Test
+    void updateItem_WhenUpdateItemDtoValid_ThenReturnOk() {
+        UpdateItemDto updateItemDtoValid = new UpdateItemDto("name", "description", Boolean.TRUE);
+
+        when(itemClient.update(anyLong(), anyLong(), any(UpdateItemDto.class))).thenReturn(ok(updateItemDtoValid));
+
+        webClient.patch().uri(API_PREFIX + "/{itemId}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(updateItemDtoValid)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.name").isEqualTo(updateItemDtoValid.getName());
+        verify(itemClient, times(1)).update(anyLong(), anyLong(), any(UpdateItemDto.class));
+    }
+
+    @Test
+    void getAllItems_WhenValid_ThenReturnOk() {
+        when(itemClient.getAllByUserId(anyLong())).thenReturn(ok(List.of(newItemDtoValid)));
+
+        webClient.get().uri(API_PREFIX)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].name").isEqualTo(newItemDtoValid.getName());
+        verify(itemClient, times(1)).getAllByUserId(anyLong());
+    }
+
+    @Test
+    void getItemById_WhenValid_ThenReturnOk() {
+        when(itemClient.getItemById(anyLong(), anyLong())).thenReturn(ok(newItemDtoValid));
+
+        webClient.get().uri(API_PREFIX + "/{itemId}", 1L)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.name").isEqualTo(newItemDtoValid.getName());
+        verify(itemClient, times(1)).getItemById(1L, 1L);
+    }
+
+    @Test
+    void getBySearch_WhenSearchValid_ThenReturnOk() {
+        when(itemClient.getBySearch(anyLong(), anyString(), anyInt(), anyInt()))
+                .thenReturn(ok(List.of(newItemDtoValid)));
+
+        webClient.get().uri(API_PREFIX + "/search?text={text}", "search")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].name").isEqualTo(newItemDtoValid.getName());
+        verify(itemClient, times(1)).getBySearch(1L, "search", 0, 10);
+    }
+
+    @Test
+    void getBySearch_WhenFromNotValid_ThenReturnBadRequest() {
+        webClient.get().uri(API_PREFIX + "/search?text={text}&from={from}", "search", -1)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(itemClient, never()).getBySearch(anyLong(), anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getAvailability_WhenPeriodValid_ThenReturnOk() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0);
+        LocalDateTime to = from.plusDays(1);
+
+        when(itemClient.getAvailability(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(ok(List.of()));
+
+        webClient.get().uri(API_PREFIX + "/{itemId}/availability?from={from}&to={to}", 1L, from, to)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk();
+        verify(itemClient, times(1)).getAvailability(1L, 1L, from, to);
+    }
+
+    @Test
+    void getAvailability_WhenFromIsNotBeforeTo_ThenReturnBadRequest() {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+        webClient.get().uri(API_PREFIX + "/{itemId}/availability?from={from}&to={to}", 1L, from, from.minusHours(1))
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(itemClient, never())
+                .getAvailability(anyLong(), anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+    }
+
+    @Test
+    void createComment_WhenNewCommentDtoValid_ThenReturnOk() {
+        NewCommentDto newCommentDtoValid = new NewCommentDto("text");
+
+        when(itemClient.createComment(anyLong(), anyLong(), any(NewCommentDto.class)))
+                .thenReturn(ok(newCommentDtoValid));
+
+        webClient.post().uri(API_PREFIX + "/{itemId}/comment", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(newCommentDtoValid)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.text").isEqualTo(newCommentDtoValid.getText());
+        verify(itemClient, times(1)).createComment(anyLong(), anyLong(), any(NewCommentDto.class));
+    }
+
+    @Test
+    void createComment_WhenNewCommentDtoNotValid_ThenReturnBadRequest() {
+        webClient.post().uri(API_PREFIX + "/{itemId}/comment", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(new NewCommentDto(""))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(itemClient, never()).createComment(anyLong(), anyLong(), any(NewCommentDto.class));
+    }
+
+    @SneakyThrows
+    private Mono<ResponseEntity<byte[]>> ok(Object body) {
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(body)));
+    }
+}
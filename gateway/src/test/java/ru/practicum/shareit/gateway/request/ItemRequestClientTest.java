@@ -13,6 +13,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.client.MockRestServiceServer;
 import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
@@ -55,7 +57,7 @@ class ItemRequestClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemRequestClient.createItemRequest(userId, newItemRequestDto);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -73,7 +75,7 @@ class ItemRequestClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemRequestClient.getItemRequestsByUserId(userId);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -91,7 +93,7 @@ class ItemRequestClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemRequestClient.getItemRequestsByOther(userId);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -109,7 +111,7 @@ class ItemRequestClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = itemRequestClient.getItemRequestsById(userId);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -0,0 +1,110 @@
+package ru.practicum.shareit.gateway.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.request.dto.NewItemRequestDto;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveItemRequestController.class)
+class ReactiveItemRequestControllerTestIT {
+    private static final String API_PREFIX = "/requests";
+    private final NewItemRequestDto newItemRequestDto = new NewItemRequestDto("smart drill");
+
+    @MockBean
+    private ReactiveItemRequestClient itemRequestClient;
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createItemRequest_WhenNewItemRequestDtoValid_ThenReturnOk() {
+        when(itemRequestClient.createItemRequest(anyLong(), any(NewItemRequestDto.class)))
+                .thenReturn(ok(newItemRequestDto));
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(newItemRequestDto)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.description").isEqualTo(newItemRequestDto.getDescription());
+        verify(itemRequestClient, times(1)).createItemRequest(anyLong(), any(NewItemRequestDto.class));
+    }
+
+    @Test
+    void createItemRequest_WhenNewItemRequestDtoNotValid_ThenReturnBadRequest() {
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Sharer-User-Id", "1")
+                .bodyValue(new NewItemRequestDto(""))
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(itemRequestClient, never()).createItemRequest(anyLong(), any(NewItemRequestDto.class));
+    }
+
+    @Test
+    void getItemRequestsByUserId_WhenValid_ThenReturnOk() {
+        when(itemRequestClient.getItemRequestsByUserId(anyLong())).thenReturn(ok(List.of(newItemRequestDto)));
+
+        webClient.get().uri(API_PREFIX)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].description").isEqualTo(newItemRequestDto.getDescription());
+        verify(itemRequestClient, times(1)).getItemRequestsByUserId(anyLong());
+    }
+
+    @Test
+    void getItemRequestsByOther() {
+        when(itemRequestClient.getItemRequestsByOther(anyLong())).thenReturn(ok(List.of(newItemRequestDto)));
+
+        webClient.get().uri(API_PREFIX + "/all")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].description").isEqualTo(newItemRequestDto.getDescription());
+        verify(itemRequestClient, times(1)).getItemRequestsByOther(anyLong());
+    }
+
+    @Test
+    void getItemRequestsById() {
+        when(itemRequestClient.getItemRequestsById(anyLong())).thenReturn(ok(newItemRequestDto));
+
+        webClient.get().uri(API_PREFIX + "/{requestId}", 1L)
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.description").isEqualTo(newItemRequestDto.getDescription());
+        verify(itemRequestClient, times(1)).getItemRequestsById(anyLong());
+    }
+
+    @SneakyThrows
+    private Mono<ResponseEntity<byte[]>> ok(Object body) {
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(body)));
+    }
+}
@@ -0,0 +1,138 @@
+package ru.practicum.shareit.gateway.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.gateway.user.dto.NewUserDto;
+import ru.practicum.shareit.gateway.user.dto.UpdateUserDto;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@WebFluxTest(ReactiveUserController.class)
+class ReactiveUserControllerTestIT {
+    private static final String API_PREFIX = "/users";
+
+    @MockBean
+    private ReactiveUserClient userClient;
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createUser_WhenNewUserDtoValid_ThenReturnOk() {
+        NewUserDto newUserDtoValid = new NewUserDto("name", "email@email.com");
+
+        when(userClient.create(any(NewUserDto.class))).thenReturn(ok(newUserDtoValid));
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(newUserDtoValid)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.name").isEqualTo(newUserDtoValid.getName());
+        verify(userClient, times(1)).create(any(NewUserDto.class));
+    }
+
+    @Test
+    void createUser_WhenNewUserDtoNotValid_ThenReturnBadRequest() {
+        NewUserDto newUserDtoNotValid = new NewUserDto("", "email@email.com");
+
+        webClient.post().uri(API_PREFIX)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(newUserDtoNotValid)
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(userClient, never()).create(any(NewUserDto.class));
+    }
+
+    @Test
+    void getAll_WhenValid_ThenReturnOk() {
+        NewUserDto newUserDtoValid = new NewUserDto("name", "email@email.com");
+
+        when(userClient.getAll()).thenReturn(ok(List.of(newUserDtoValid)));
+
+        webClient.get().uri(API_PREFIX)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$[0].name").isEqualTo(newUserDtoValid.getName());
+        verify(userClient, times(1)).getAll();
+    }
+
+    @Test
+    void getUserById_WhenValid_ThenReturnOk() {
+        NewUserDto newUserDtoValid = new NewUserDto("name", "email@email.com");
+
+        when(userClient.getById(anyLong())).thenReturn(ok(newUserDtoValid));
+
+        webClient.get().uri(API_PREFIX + "/{userId}", 1L)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.name").isEqualTo(newUserDtoValid.getName());
+        verify(userClient, times(1)).getById(anyLong());
+    }
+
+    @Test
+    void updateUser_WhenUpdateUserDtoValid_ThenReturnOk() {
+        UpdateUserDto updateUserDtoValid = new UpdateUserDto("name", "email@email.com");
+
+        when(userClient.update(anyLong(), any(UpdateUserDto.class))).thenReturn(ok(updateUserDtoValid));
+
+        webClient.patch().uri(API_PREFIX + "/{userId}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updateUserDtoValid)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().jsonPath("$.name").isEqualTo(updateUserDtoValid.getName());
+        verify(userClient, times(1)).update(anyLong(), any(UpdateUserDto.class));
+    }
+
+    @Test
+    void updateUser_WhenUpdateUserDtoNotValid_ThenReturnBadRequest() {
+        UpdateUserDto updateUserDtoNotValid = new UpdateUserDto("name", "email.email.com");
+
+        webClient.patch().uri(API_PREFIX + "/{userId}", 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updateUserDtoNotValid)
+                .exchange()
+                .expectStatus().isBadRequest();
+        verify(userClient, never()).update(anyLong(), any(UpdateUserDto.class));
+    }
+
+    @Test
+    void deleteUser_WhenValid_ThenReturnOk() {
+        when(userClient.delete(anyLong())).thenReturn(Mono.just(ResponseEntity.ok().build()));
+
+        webClient.delete().uri(API_PREFIX + "/{userId}", 1L)
+                .exchange()
+                .expectStatus().isOk();
+        verify(userClient, times(1)).delete(anyLong());
+    }
+
+    @SneakyThrows
+    private Mono<ResponseEntity<byte[]>> ok(Object body) {
+        return Mono.just(ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(objectMapper.writeValueAsBytes(body)));
+    }
+}
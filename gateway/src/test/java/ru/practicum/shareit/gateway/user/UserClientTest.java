@@ -6,17 +6,24 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.client.RestClientTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import ru.practicum.shareit.gateway.user.dto.NewUserDto;
 import ru.practicum.shareit.gateway.user.dto.UpdateUserDto;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
@@ -55,7 +62,7 @@ class UserClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = userClient.create(newUserDto);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -71,7 +78,7 @@ class UserClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = userClient.getAll();
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -89,7 +96,7 @@ class UserClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = userClient.getById(userId);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -108,7 +115,7 @@ class UserClientTest {
                         .body(body)
                         .contentType(MediaType.APPLICATION_JSON));
         ResponseEntity<Object> responseEntity = userClient.update(userId, updateUserDto);
-        String responseBody = objectMapper.writeValueAsString(responseEntity.getBody());
+        String responseBody = new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8);
 
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertEquals(responseBody, body);
@@ -129,4 +136,42 @@ class UserClientTest {
         assertEquals(responseEntity.getStatusCode(), HttpStatus.OK);
         assertNull(responseEntity.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getById_WhenServerReturnsNotFound_ThenPassErrorThrough() {
+        Long userId = 99L;
+        String error = "{\"error\":\"not found\"}";
+
+        mockServer.expect(requestTo(serverUrl + "/%d".formatted(userId)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .body(error)
+                        .contentType(MediaType.APPLICATION_JSON));
+        ResponseEntity<Object> responseEntity = userClient.getById(userId);
+
+        assertEquals(HttpStatus.NOT_FOUND, responseEntity.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, responseEntity.getHeaders().getContentType());
+        assertEquals(error, new String((byte[]) responseEntity.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void getAll_WhenIfNoneMatchSent_ThenForwardItAndReturnWeakETag() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"v1\"");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            mockServer.expect(requestTo(serverUrl))
+                    .andExpect(method(HttpMethod.GET))
+                    .andExpect(header(HttpHeaders.IF_NONE_MATCH, "W/\"v1\""))
+                    .andRespond(withStatus(HttpStatus.NOT_MODIFIED)
+                            .header(HttpHeaders.ETAG, "\"v1\""));
+            ResponseEntity<Object> responseEntity = userClient.getAll();
+
+            assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+            assertEquals("W/\"v1\"", responseEntity.getHeaders().getETag());
+            assertNull(responseEntity.getBody());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
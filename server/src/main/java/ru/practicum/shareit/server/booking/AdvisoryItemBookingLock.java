@@ -0,0 +1,23 @@
+package ru.practicum.shareit.server.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shareit.booking.lock", havingValue = "advisory", matchIfMissing = true)
+public class AdvisoryItemBookingLock implements ItemBookingLock {
+    // first key of the two-key advisory lock space, so item ids do not clash with other advisory locks
+    private static final int ITEM_BOOKINGS = 1;
+    private static final RowCallbackHandler IGNORE = resultSet -> {
+    };
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockForTransaction(Long itemId) {
+        jdbcTemplate.query("select pg_advisory_xact_lock(?, ?)", IGNORE, ITEM_BOOKINGS, Long.hashCode(itemId));
+    }
+}
@@ -0,0 +1,87 @@
+package ru.practicum.shareit.server.booking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.server.exception.NotFoundException;
+import ru.practicum.shareit.server.item.Item;
+import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.ItemSavedEvent;
+import ru.practicum.shareit.server.item.dto.FreeSlotDto;
+import ru.practicum.shareit.server.item.dto.ItemAvailabilityDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+public class BookingCalendar {
+    public static final String CALENDARS_CACHE = "bookingCalendars";
+    private final ItemRepository itemRepository;
+    private final BookingRepository bookingRepository;
+    private final Cache<Long, ItemCalendar> calendars;
+
+    public BookingCalendar(ItemRepository itemRepository,
+                           BookingRepository bookingRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${shareit.booking.calendar.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}")
+                           String spec) {
+        this.itemRepository = itemRepository;
+        this.bookingRepository = bookingRepository;
+        this.calendars = Caffeine.from(spec).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, calendars, CALENDARS_CACHE);
+    }
+
+    public ItemAvailabilityDto getAvailability(Long itemId, LocalDateTime from, LocalDateTime to) {
+        final ItemCalendar calendar = calendars.get(itemId, this::load);
+        final List<FreeSlotDto> freeSlots = new ArrayList<>();
+        final LocalDateTime now = LocalDateTime.now();
+        if (calendar.available) {
+            calendar.bookings.forEachGap(from.isAfter(now) ? from : now, to,
+                    (start, end) -> freeSlots.add(new FreeSlotDto(start, end)));
+        }
+        return new ItemAvailabilityDto(itemId, from, to, freeSlots);
+    }
+
+    @TransactionalEventListener
+    public void onBookingSaved(BookingSavedEvent event) {
+        calendars.asMap().computeIfPresent(event.getItemId(), (itemId, calendar) ->
+                new ItemCalendar(calendar.available, Status.BOOKED.contains(event.getStatus())
+                        ? calendar.bookings.put(event.getId(), event.getStart(), event.getEnd())
+                        : calendar.bookings.remove(event.getId(), event.getStart())));
+    }
+
+    @TransactionalEventListener
+    public void onItemSaved(ItemSavedEvent event) {
+        calendars.asMap().computeIfPresent(event.getId(), (itemId, calendar) ->
+                new ItemCalendar(Boolean.TRUE.equals(event.getAvailable()), calendar.bookings));
+    }
+
+    private ItemCalendar load(Long itemId) {
+        final Item item = itemRepository.findById(itemId).orElseThrow(() -> {
+            log.warn("Item with id {} not found ", itemId);
+            return new NotFoundException(String.format("Item with id = %d not found ", itemId));
+        });
+        BookingIntervalTree bookings = BookingIntervalTree.EMPTY;
+        for (Booking booking : bookingRepository.findByItemIdAndStatusInAndEndGreaterThanEqual(itemId,
+                Status.BOOKED,
+                LocalDateTime.now())) {
+            bookings = bookings.put(booking.getId(), booking.getStart(), booking.getEnd());
+        }
+        log.debug("Loaded calendar of item with id {} with {} bookings", itemId, bookings.size());
+        return new ItemCalendar(Boolean.TRUE.equals(item.getAvailable()), bookings);
+    }
+
+    @AllArgsConstructor
+    private static final class ItemCalendar {
+        private final boolean available;
+        private final BookingIntervalTree bookings;
+    }
+}
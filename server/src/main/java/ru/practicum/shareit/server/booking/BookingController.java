@@ -2,6 +2,8 @@ package ru.practicum.shareit.server.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -11,8 +13,14 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalsDto;
 import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.server.booking.dto.NewBookingDto;
+import ru.practicum.shareit.server.common.CollectionVersions;
+import ru.practicum.shareit.server.exception.InvalidRequestException;
 
 import java.util.List;
 
@@ -21,7 +29,9 @@ import java.util.List;
 @RequiredArgsConstructor
 @RequestMapping(path = "/bookings")
 public class BookingController {
+    private static final int MAX_PAGE_SIZE = 100;
     private final BookingService bookingService;
+    private final CollectionVersions collectionVersions;
 
     @PostMapping
     public BookingDto create(@RequestBody NewBookingDto newBookingDto,
@@ -42,6 +52,31 @@ public class BookingController {
         return bookingDto;
     }
 
+    @PatchMapping("/approvals")
+    public List<BookingApprovalResultDto> updateAll(@RequestHeader(value = "X-Sharer-User-Id") Long userId,
+                                                    @RequestBody BookingApprovalsDto approvals) {
+        log.info("Started updating {} bookings", approvals.getApprovals().size());
+        final List<BookingApprovalResultDto> bookings = bookingService.updateAll(userId, approvals.getApprovals());
+        log.info("Finished updating {} bookings", approvals.getApprovals().size());
+        return bookings;
+    }
+
+    @GetMapping("/summary")
+    public BookingSummaryDto getSummary(@RequestHeader(value = "X-Sharer-User-Id") Long bookerId) {
+        log.info("Started getting booking summary");
+        final BookingSummaryDto summaryDto = bookingService.getSummary(bookerId);
+        log.info("Finished getting booking summary");
+        return summaryDto;
+    }
+
+    @GetMapping("/owner/summary")
+    public BookingSummaryDto getOwnerSummary(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId) {
+        log.info("Started getting booking summary by owner");
+        final BookingSummaryDto summaryDto = bookingService.getOwnerSummary(ownerId);
+        log.info("Finished getting booking summary by owner");
+        return summaryDto;
+    }
+
     @GetMapping("/{bookingId}")
     public BookingDto getById(@PathVariable(value = "bookingId") Long bookingId,
                               @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
@@ -52,20 +87,58 @@ public class BookingController {
     }
 
     @GetMapping
-    public List<BookingDto> getAllByState(@RequestHeader(value = "X-Sharer-User-Id") Long bookerId,
-                                          @RequestParam(value = "state") State state) {
+    public ResponseEntity<List<BookingDto>> getAllByState(
+            @RequestHeader(value = "X-Sharer-User-Id") Long bookerId,
+            @RequestParam(value = "state") State state,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") Integer size,
+            ServletWebRequest request) {
         log.info("Started getting all booking by state");
-        final List<BookingDto> bookingDtos = bookingService.getAllByState(bookerId, state);
+        checkSize(size);
+        if (!state.dependsOnTime() && collectionVersions.checkNotModified(request, bookerId,
+                CollectionVersions.USERS, CollectionVersions.ITEMS, CollectionVersions.bookerBookings(bookerId))) {
+            log.info("Bookings by state not modified");
+            return null;
+        }
+        final Window<BookingDto> bookingDtos = bookingService.getAllByState(bookerId, state, cursor, size);
         log.info("Finished getting all booking by state");
-        return bookingDtos;
+        return toPage(bookingDtos);
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getAllByOwner(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
-                                          @RequestParam(value = "state") State state) {
+    public ResponseEntity<List<BookingDto>> getAllByOwner(
+            @RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
+            @RequestParam(value = "state") State state,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") Integer size,
+            ServletWebRequest request) {
         log.info("Started getting all booking by owner");
-        final List<BookingDto> bookingDtos = bookingService.getAllByOwner(ownerId, state);
+        checkSize(size);
+        if (!state.dependsOnTime() && collectionVersions.checkNotModified(request, ownerId,
+                CollectionVersions.USERS,
+                CollectionVersions.ownerItems(ownerId),
+                CollectionVersions.ownerBookings(ownerId))) {
+            log.info("Bookings by owner not modified");
+            return null;
+        }
+        final Window<BookingDto> bookingDtos = bookingService.getAllByOwner(ownerId, state, cursor, size);
         log.info("Finished getting all booking by owner");
-        return bookingDtos;
+        return toPage(bookingDtos);
+    }
+
+    private void checkSize(Integer size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Page size {} is not valid", size);
+            throw new InvalidRequestException(String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+    }
+
+    private ResponseEntity<List<BookingDto>> toPage(Window<BookingDto> bookingDtos) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        String nextCursor = BookingCursor.next(bookingDtos);
+        if (nextCursor != null) {
+            response.header(BookingCursor.NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(bookingDtos.getContent());
     }
 }
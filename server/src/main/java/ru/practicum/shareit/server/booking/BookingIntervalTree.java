@@ -0,0 +1,171 @@
+package ru.practicum.shareit.server.booking;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+final class BookingIntervalTree {
+    static final BookingIntervalTree EMPTY = new BookingIntervalTree(null);
+    private final Node root;
+
+    private BookingIntervalTree(Node root) {
+        this.root = root;
+    }
+
+    BookingIntervalTree put(long id, LocalDateTime start, LocalDateTime end) {
+        return new BookingIntervalTree(put(root, id, start, end));
+    }
+
+    BookingIntervalTree remove(long id, LocalDateTime start) {
+        Node removed = remove(root, id, start);
+        return removed == root ? this : new BookingIntervalTree(removed);
+    }
+
+    void forEachGap(LocalDateTime from, LocalDateTime to, BiConsumer<LocalDateTime, LocalDateTime> action) {
+        List<Node> overlapping = new ArrayList<>();
+        collectOverlapping(root, from, to, overlapping);
+        LocalDateTime cursor = from;
+        for (Node node : overlapping) {
+            if (node.start.isAfter(cursor)) {
+                action.accept(cursor, node.start);
+            }
+            if (node.end.isAfter(cursor)) {
+                cursor = node.end;
+            }
+        }
+        if (to.isAfter(cursor)) {
+            action.accept(cursor, to);
+        }
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    private static Node put(Node node, long id, LocalDateTime start, LocalDateTime end) {
+        if (node == null) {
+            return new Node(id, start, end, null, null);
+        }
+        int compare = compare(id, start, node);
+        if (compare < 0) {
+            return balance(node.withChildren(put(node.left, id, start, end), node.right));
+        } else if (compare > 0) {
+            return balance(node.withChildren(node.left, put(node.right, id, start, end)));
+        }
+        return new Node(id, start, end, node.left, node.right);
+    }
+
+    private static Node remove(Node node, long id, LocalDateTime start) {
+        if (node == null) {
+            return null;
+        }
+        int compare = compare(id, start, node);
+        if (compare < 0) {
+            Node left = remove(node.left, id, start);
+            return left == node.left ? node : balance(node.withChildren(left, node.right));
+        } else if (compare > 0) {
+            Node right = remove(node.right, id, start);
+            return right == node.right ? node : balance(node.withChildren(node.left, right));
+        }
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node min = node.right;
+        while (min.left != null) {
+            min = min.left;
+        }
+        return balance(new Node(min.id, min.start, min.end, node.left, removeMin(node.right)));
+    }
+
+    private static Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.withChildren(removeMin(node.left), node.right));
+    }
+
+    private static void collectOverlapping(Node node, LocalDateTime from, LocalDateTime to, List<Node> overlapping) {
+        if (node == null || node.maxEnd.isBefore(from)) {
+            return;
+        }
+        collectOverlapping(node.left, from, to, overlapping);
+        if (node.start.isAfter(to)) {
+            return;
+        }
+        if (!node.end.isBefore(from)) {
+            overlapping.add(node);
+        }
+        collectOverlapping(node.right, from, to, overlapping);
+    }
+
+    private static int compare(long id, LocalDateTime start, Node node) {
+        int compare = start.compareTo(node.start);
+        return compare != 0 ? compare : Long.compare(id, node.id);
+    }
+
+    private static Node balance(Node node) {
+        int factor = height(node.left) - height(node.right);
+        if (factor > 1) {
+            Node left = height(node.left.left) < height(node.left.right) ? rotateLeft(node.left) : node.left;
+            return rotateRight(node.withChildren(left, node.right));
+        } else if (factor < -1) {
+            Node right = height(node.right.right) < height(node.right.left) ? rotateRight(node.right) : node.right;
+            return rotateLeft(node.withChildren(node.left, right));
+        }
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        return left.withChildren(left.left, node.withChildren(left.right, node.right));
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        return right.withChildren(node.withChildren(node.left, right.left), right.right);
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final long id;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+        private final LocalDateTime maxEnd;
+
+        private Node(long id, LocalDateTime start, LocalDateTime end, Node left, Node right) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+            LocalDateTime maxEnd = end;
+            if (left != null && left.maxEnd.isAfter(maxEnd)) {
+                maxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.isAfter(maxEnd)) {
+                maxEnd = right.maxEnd;
+            }
+            this.maxEnd = maxEnd;
+        }
+
+        private Node withChildren(Node left, Node right) {
+            return new Node(id, start, end, left, right);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.server.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BookingOwnership {
+    private final Long id;
+    private final Status status;
+    private final Long bookerId;
+    private final Long ownerId;
+    private final Long version;
+    private final Long itemId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.server.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.booking.partitions.enabled", havingValue = "true")
+public class BookingPartitionMaintainer {
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int archiveAfterMonths;
+    private final String archiveTablespace;
+
+    public BookingPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                      @Value("${shareit.booking.partitions.months-ahead:3}") int monthsAhead,
+                                      @Value("${shareit.booking.partitions.archive-after-months:12}")
+                                      int archiveAfterMonths,
+                                      @Value("${shareit.booking.partitions.archive-tablespace:}")
+                                      String archiveTablespace) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.archiveAfterMonths = archiveAfterMonths;
+        this.archiveTablespace = archiveTablespace;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${shareit.booking.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        final LocalDateTime month = LocalDateTime.now()
+                .with(TemporalAdjusters.firstDayOfMonth())
+                .truncatedTo(ChronoUnit.DAYS);
+        int created = 0;
+        for (int i = 0; i <= monthsAhead; i++) {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("select create_booking_partition(?)",
+                    Boolean.class, month.plusMonths(i)))) {
+                created++;
+            }
+        }
+        int archived = 0;
+        if (!archiveTablespace.isBlank()) {
+            archived = jdbcTemplate.queryForObject("select archive_booking_partitions(?, ?)",
+                    Integer.class, month.minusMonths(archiveAfterMonths), archiveTablespace);
+        }
+        log.info("Created {} and archived {} booking partitions", created, archived);
+    }
+}
@@ -1,81 +1,118 @@
 package ru.practicum.shareit.server.booking;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.repository.query.Param;
+import ru.practicum.shareit.server.booking.dto.BookingSummaryDto;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
-public interface BookingRepository extends JpaRepository<Booking, Long>, QuerydslPredicateExecutor<Booking> {
-    List<Booking> findBookingByItemId(Long itemId);
-
-    List<Booking> findBookingByBookerId(Long bookerId, Sort sort);
-
-    List<Booking> findBookingByBookerIdAndStatus(Long bookerId, Status status, Sort sort);
-
-    List<Booking> findBookingByBookerIdAndStartBeforeAndEndAfter(Long bookerId,
-                                                                 LocalDateTime ldt1,
-                                                                 LocalDateTime ldt2,
-                                                                 Sort sort);
-
-    List<Booking> findBookingByBookerIdAndEndBefore(Long bookerId, LocalDateTime ldt, Sort sort);
-
-    List<Booking> findBookingByBookerIdAndStartAfter(Long bookerId, LocalDateTime ldt, Sort sort);
-
-    List<Booking> findBookingByItemOwnerId(Long ownerId, Sort sort);
+public interface BookingRepository extends JpaRepository<Booking, Long>,
+        QuerydslPredicateExecutor<Booking>,
+        BookingRepositoryCustom {
+    @Query("""
+            select count(b) > 0 from Booking as b
+            where b.item.id = :itemId and b.status in :statuses and b.start < :end and b.end > :start
+            """)
+    boolean existsOverlappingBooking(@Param("itemId") Long itemId,
+                                     @Param("statuses") Collection<Status> statuses,
+                                     @Param("start") LocalDateTime start,
+                                     @Param("end") LocalDateTime end);
 
-    List<Booking> findBookingByItemOwnerIdAndStatus(Long ownerId, Status status, Sort sort);
+    List<Booking> findByItemIdAndStatusInAndEndGreaterThanEqual(Long itemId,
+                                                                Collection<Status> statuses,
+                                                                LocalDateTime end);
 
-    List<Booking> findBookingByItemOwnerIdAndStartBeforeAndEndAfter(Long ownerId,
-                                                                    LocalDateTime ldt1,
-                                                                    LocalDateTime ldt2,
-                                                                    Sort sort);
-
-    List<Booking> findBookingByItemOwnerIdAndEndBefore(Long ownerId, LocalDateTime ldt, Sort sort);
+    @Query("""
+            select new ru.practicum.shareit.server.booking.dto.BookingSummaryDto(
+                count(b),
+                count(b) filter (where b.start < cast(:now as LocalDateTime) and b.end > cast(:now as LocalDateTime)),
+                count(b) filter (where b.end < cast(:now as LocalDateTime)),
+                count(b) filter (where b.start > cast(:now as LocalDateTime) and b.end > cast(:now as LocalDateTime)),
+                count(b) filter (where b.status = ru.practicum.shareit.server.booking.Status.WAITING),
+                count(b) filter (where b.status = ru.practicum.shareit.server.booking.Status.REJECTED))
+            from Booking as b
+            where b.booker.id = :bookerId
+            """)
+    BookingSummaryDto countByBookerId(@Param("bookerId") Long bookerId, @Param("now") LocalDateTime now);
 
-    List<Booking> findBookingByItemOwnerIdAndStartAfter(Long ownerId, LocalDateTime ldt, Sort sort);
+    @Query("""
+            select new ru.practicum.shareit.server.booking.dto.BookingSummaryDto(
+                count(b),
+                count(b) filter (where b.start < cast(:now as LocalDateTime) and b.end > cast(:now as LocalDateTime)),
+                count(b) filter (where b.end < cast(:now as LocalDateTime)),
+                count(b) filter (where b.start > cast(:now as LocalDateTime) and b.end > cast(:now as LocalDateTime)),
+                count(b) filter (where b.status = ru.practicum.shareit.server.booking.Status.WAITING),
+                count(b) filter (where b.status = ru.practicum.shareit.server.booking.Status.REJECTED))
+            from Booking as b
+            where b.item.owner.id = :ownerId
+            """)
+    BookingSummaryDto countByOwnerId(@Param("ownerId") Long ownerId, @Param("now") LocalDateTime now);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     List<Booking> findBookingByBookerIdAndItemIdAndStatus(Long ownerId, Long itemId, Status status);
 
+    @EntityGraph(attributePaths = {"booker"})
     Optional<Booking> findFirstByItemIdAndItemOwnerIdAndEndIsBefore(Long itemId,
                                                                     Long userId,
                                                                     LocalDateTime ldt,
                                                                     Sort sort);
 
-    Optional<Booking> findFirstByItemIdAndItemOwnerIdAndStartIsAfter(Long itemId,
-                                                                     Long userId,
-                                                                     LocalDateTime ldt,
-                                                                     Sort sort);
+    @EntityGraph(attributePaths = {"booker"})
+    Optional<Booking> findFirstByItemIdAndItemOwnerIdAndStartIsAfterAndEndIsAfter(Long itemId,
+                                                                                  Long userId,
+                                                                                  LocalDateTime start,
+                                                                                  LocalDateTime end,
+                                                                                  Sort sort);
+
+    @Query("""
+            select b from (
+                select b2.id as id,
+                row_number() over (partition by b2.item.id order by b2.end desc, b2.id desc) as rn
+                from Booking as b2
+                where b2.item.owner.id = :ownerId and b2.end < :ldt
+                union all
+                select b3.id as id,
+                row_number() over (partition by b3.item.id order by b3.start asc, b3.id asc) as rn
+                from Booking as b3
+                where b3.item.owner.id = :ownerId and b3.start > :ldt and b3.end > :ldt
+            ) as lnb
+            join Booking as b on b.id = lnb.id
+            join fetch b.booker
+            where lnb.rn = 1
+            """)
+    List<Booking> findLastAndNextBookings(@Param("ownerId") Long ownerId, @Param("ldt") LocalDateTime ldt);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
-            SELECT b from Booking as b
-            left join fetch b.item as i
-            left join fetch i.owner as o
-            where i.id in :itemIds and o.id = :userId and b.end = (
-            select max(b2.end)
-            from Booking as b2
-            where b2.end < :ldt)
+            update Booking as b
+            set b.version = b.version + 1,
+                b.status = case
+                when b.id in :approvedIds then ru.practicum.shareit.server.booking.Status.APPROVED
+                else ru.practicum.shareit.server.booking.Status.REJECTED
+            end
+            where b.id in :ids and b.status = ru.practicum.shareit.server.booking.Status.WAITING
             """)
-    Optional<Booking> findLastBookingWith(@Param("itemIds") Set<Long> itemIds,
-                                          @Param("userId") Long userId,
-                                          @Param("ldt") LocalDateTime ldt);
+    int updateWaitingStatuses(@Param("ids") Collection<Long> ids, @Param("approvedIds") Collection<Long> approvedIds);
 
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
-            select b from Booking as b
-            left join fetch b.item as i
-            left join fetch i.owner as o
-            where i.id in :itemIds and o.id = :userId and b.start = (
-            select min(b2.start)
-            from Booking as b2
-            where b2.start > :ldt
-            )
+            update Booking as b
+            set b.status = :status, b.version = b.version + 1
+            where b.id = :id
+                and b.version = :version
+                and b.status = ru.practicum.shareit.server.booking.Status.WAITING
+                and exists (select i.id from Item as i where i.id = b.item.id and i.owner.id = :ownerId)
             """)
-    Optional<Booking> findNextBookingWith(@Param("itemIds") Set<Long> itemIds,
-                                          @Param("userId") Long userId,
-                                          @Param("ldt") LocalDateTime ldt);
+    int updateWaitingStatus(@Param("id") Long id,
+                            @Param("version") Long version,
+                            @Param("ownerId") Long ownerId,
+                            @Param("status") Status status);
 }
@@ -0,0 +1,18 @@
+package ru.practicum.shareit.server.booking;
+
+import com.querydsl.core.types.Predicate;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import ru.practicum.shareit.server.booking.dto.BookingDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookingRepositoryCustom {
+    Window<BookingDto> findBookingDtos(Predicate predicate, ScrollPosition position, int limit);
+
+    Optional<BookingDto> findBookingDto(Long id);
+
+    List<BookingOwnership> findOwnerships(Collection<Long> ids);
+}
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.server.booking;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.item.dto.ItemDto;
+import ru.practicum.shareit.server.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class BookingRepositoryCustomImpl implements BookingRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    public BookingRepositoryCustomImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public Window<BookingDto> findBookingDtos(Predicate predicate, ScrollPosition position, int limit) {
+        QBooking booking = QBooking.booking;
+        BooleanBuilder where = new BooleanBuilder(predicate);
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            LocalDateTime start = (LocalDateTime) keyset.getKeys().get("start");
+            Long id = (Long) keyset.getKeys().get("id");
+            where.and(booking.start.lt(start).or(booking.start.eq(start).and(booking.id.lt(id))));
+        }
+        List<BookingDto> bookings = queryFactory
+                .select(bookingDto(booking))
+                .from(booking)
+                .where(where)
+                .orderBy(booking.start.desc(), booking.id.desc())
+                .limit(limit + 1)
+                .fetch();
+        boolean hasNext = bookings.size() > limit;
+        List<BookingDto> content = hasNext ? bookings.subList(0, limit) : bookings;
+        return Window.from(content,
+                index -> ScrollPosition.forward(Map.of("start", content.get(index).getStart(),
+                        "id", content.get(index).getId())),
+                hasNext);
+    }
+
+    @Override
+    public Optional<BookingDto> findBookingDto(Long id) {
+        QBooking booking = QBooking.booking;
+        return Optional.ofNullable(queryFactory
+                .select(bookingDto(booking))
+                .from(booking)
+                .where(booking.id.eq(id))
+                .fetchOne());
+    }
+
+    @Override
+    public List<BookingOwnership> findOwnerships(Collection<Long> ids) {
+        QBooking booking = QBooking.booking;
+        return queryFactory
+                .select(Projections.constructor(BookingOwnership.class,
+                        booking.id,
+                        booking.status,
+                        booking.booker.id,
+                        booking.item.owner.id,
+                        booking.version,
+                        booking.item.id,
+                        booking.start,
+                        booking.end))
+                .from(booking)
+                .where(booking.id.in(ids))
+                .fetch();
+    }
+
+    private static ConstructorExpression<BookingDto> bookingDto(QBooking booking) {
+        return Projections.constructor(BookingDto.class,
+                booking.id,
+                booking.start,
+                booking.end,
+                Projections.constructor(ItemDto.class,
+                        booking.item.id,
+                        booking.item.name,
+                        booking.item.description,
+                        booking.item.available),
+                Projections.constructor(UserDto.class,
+                        booking.booker.id,
+                        booking.booker.name,
+                        booking.booker.email),
+                booking.status);
+    }
+}
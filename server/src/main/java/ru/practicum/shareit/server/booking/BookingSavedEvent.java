@@ -0,0 +1,38 @@
+package ru.practicum.shareit.server.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BookingSavedEvent {
+    private final Long id;
+    private final Long bookerId;
+    private final Long ownerId;
+    private final Long itemId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final Status status;
+
+    public static BookingSavedEvent of(Booking booking) {
+        return new BookingSavedEvent(booking.getId(),
+                booking.getBooker().getId(),
+                booking.getItem().getOwner().getId(),
+                booking.getItem().getId(),
+                booking.getStart(),
+                booking.getEnd(),
+                booking.getStatus());
+    }
+
+    public static BookingSavedEvent of(BookingOwnership ownership, Status status) {
+        return new BookingSavedEvent(ownership.getId(),
+                ownership.getBookerId(),
+                ownership.getOwnerId(),
+                ownership.getItemId(),
+                ownership.getStart(),
+                ownership.getEnd(),
+                status);
+    }
+}
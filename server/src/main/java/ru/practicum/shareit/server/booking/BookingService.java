@@ -1,6 +1,10 @@
 package ru.practicum.shareit.server.booking;
 
+import org.springframework.data.domain.Window;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.server.booking.dto.NewBookingDto;
 
 import java.util.List;
@@ -10,9 +14,15 @@ public interface BookingService {
 
     BookingDto update(Long bookingId, Long userId, Boolean approved);
 
+    List<BookingApprovalResultDto> updateAll(Long userId, List<BookingApprovalDto> approvals);
+
     BookingDto getById(Long bookingId, Long userId);
 
-    List<BookingDto> getAllByState(Long bookerId, State state);
+    Window<BookingDto> getAllByState(Long bookerId, State state, String cursor, Integer size);
+
+    Window<BookingDto> getAllByOwner(Long ownerId, State state, String cursor, Integer size);
+
+    BookingSummaryDto getSummary(Long bookerId);
 
-    List<BookingDto> getAllByOwner(Long ownerId, State state);
+    BookingSummaryDto getOwnerSummary(Long ownerId);
 }
\ No newline at end of file
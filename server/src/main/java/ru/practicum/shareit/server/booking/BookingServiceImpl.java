@@ -1,33 +1,59 @@
 package ru.practicum.shareit.server.booking;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.MeterTag;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.server.booking.dto.NewBookingDto;
+import ru.practicum.shareit.server.config.CacheConfig;
+import ru.practicum.shareit.server.config.MetricsConfig;
+import ru.practicum.shareit.server.exception.ConditionsNotMetException;
 import ru.practicum.shareit.server.exception.InvalidRequestException;
 import ru.practicum.shareit.server.exception.NotFoundException;
 import ru.practicum.shareit.server.item.Item;
 import ru.practicum.shareit.server.item.ItemRepository;
 import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserLookup;
 import ru.practicum.shareit.server.user.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Observed(name = MetricsConfig.SERVICE_TIMER)
 public class BookingServiceImpl implements BookingService {
+    public static final String BOOKER_SUMMARY_CACHE = "bookerSummaries";
+    public static final String OWNER_SUMMARY_CACHE = "ownerSummaries";
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
+    private final UserLookup userLookup;
     private final ItemRepository itemRepository;
+    private final ItemBookingLock itemBookingLock;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -35,46 +61,118 @@ public class BookingServiceImpl implements BookingService {
         log.debug("Started checking contains booker with bookerId {} and Item in with itemId {} method create",
                 bookerId,
                 newBookingDto.getItemId());
-        final User booker = checkUserIsContained(bookerId);
+        userLookup.checkUserIsContained(bookerId);
+        final User booker = userRepository.getReferenceById(bookerId);
         final Item item = itemRepository.findById(newBookingDto.getItemId()).orElseThrow(() -> {
             log.warn("Item with id {} not found ", newBookingDto.getItemId());
             return new NotFoundException(String.format("Item with id = %d not found ", newBookingDto.getItemId()));
         });
         checkAvailable(item);
+        itemBookingLock.lockForTransaction(item.getId());
         isOverlappingTime(newBookingDto, item);
         log.debug("Finished checking contains booker with bookerId {} and Item in with itemId {} method create",
                 bookerId,
                 newBookingDto.getItemId());
         final Booking booking = bookingRepository.save(BookingMapper.toBooking(item, booker, newBookingDto));
+        eventPublisher.publishEvent(BookingSavedEvent.of(booking));
         return BookingMapper.toBookingDto(booking);
     }
 
     @Override
     @Transactional
     public BookingDto update(Long bookingId, Long userId, Boolean approved) {
-        //todo сделать join fetch
-        final Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> {
-            log.warn("Booking with id {} not found ", bookingId);
-            return new NotFoundException(String.format("Booking with id = %d not found ", bookingId));
-        });
+        final BookingOwnership booking = bookingRepository.findOwnerships(List.of(bookingId))
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> {
+                    log.warn("Booking with id {} not found ", bookingId);
+                    return new NotFoundException(String.format("Booking with id = %d not found ", bookingId));
+                });
         if (booking.getStatus() != Status.WAITING) {
             log.warn("Status must be WAITING");
             throw new InvalidRequestException("Status must be WAITING");
         }
-        final Item item = booking.getItem();
-        if (!Objects.equals(item.getOwner().getId(), userId)) {
+        if (!Objects.equals(booking.getOwnerId(), userId)) {
             log.warn("Only owner can change status");
             throw new InvalidRequestException("Only owner can change status");
         }
-        booking.setStatus(approved ? Status.APPROVED : Status.REJECTED);
-        final Booking savedBooking = bookingRepository.save(booking);
-        return BookingMapper.toBookingDto(savedBooking);
+        if (bookingRepository.updateWaitingStatus(bookingId, booking.getVersion(), userId, toStatus(approved)) == 0) {
+            log.warn("Booking with id {} was changed concurrently", bookingId);
+            throw new ConditionsNotMetException(String.format("Booking with id = %d was changed concurrently",
+                    bookingId));
+        }
+        eventPublisher.publishEvent(BookingSavedEvent.of(booking, toStatus(approved)));
+        return bookingRepository.findBookingDto(bookingId).orElseThrow();
+    }
+
+    @Override
+    @Transactional
+    public List<BookingApprovalResultDto> updateAll(Long userId, List<BookingApprovalDto> approvals) {
+        log.debug("Started checking contains user with userId {} in method updateAll", userId);
+        userLookup.checkUserIsContained(userId);
+        log.debug("Finished checking contains user with userId {} in method updateAll", userId);
+        final Map<Long, Boolean> decisions = new LinkedHashMap<>();
+        approvals.forEach(approval -> decisions.putIfAbsent(approval.getBookingId(), approval.getApproved()));
+        final Map<Long, BookingOwnership> ownerships = bookingRepository.findOwnerships(decisions.keySet())
+                .stream()
+                .collect(Collectors.toMap(BookingOwnership::getId, Function.identity()));
+        final Map<Long, String> errors = new HashMap<>();
+        final Set<Long> ids = new HashSet<>();
+        final Set<Long> approvedIds = new HashSet<>();
+        decisions.forEach((bookingId, approved) -> {
+            final BookingOwnership ownership = ownerships.get(bookingId);
+            if (ownership == null) {
+                errors.put(bookingId, String.format("Booking with id = %d not found", bookingId));
+            } else if (!Objects.equals(ownership.getOwnerId(), userId)) {
+                errors.put(bookingId, "Only owner can change status");
+            } else if (ownership.getStatus() != Status.WAITING) {
+                errors.put(bookingId, "Status must be WAITING");
+            } else {
+                ids.add(bookingId);
+                if (Boolean.TRUE.equals(approved)) {
+                    approvedIds.add(bookingId);
+                }
+            }
+        });
+        if (!ids.isEmpty() && bookingRepository.updateWaitingStatuses(ids, approvedIds) < ids.size()) {
+            log.warn("Some of bookings with ids {} changed status concurrently", ids);
+            // only this update moved the version exactly one step past the one read with the ownership
+            final Map<Long, BookingOwnership> current = bookingRepository.findOwnerships(ids)
+                    .stream()
+                    .collect(Collectors.toMap(BookingOwnership::getId, Function.identity()));
+            for (Long bookingId : List.copyOf(ids)) {
+                final BookingOwnership updated = current.get(bookingId);
+                if (updated == null
+                        || updated.getVersion() != ownerships.get(bookingId).getVersion() + 1
+                        || updated.getStatus() != toStatus(approvedIds.contains(bookingId))) {
+                    errors.put(bookingId, String.format("Booking with id = %d was changed concurrently", bookingId));
+                    ids.remove(bookingId);
+                }
+            }
+        }
+        ids.forEach(bookingId -> eventPublisher.publishEvent(BookingSavedEvent.of(ownerships.get(bookingId),
+                toStatus(approvedIds.contains(bookingId)))));
+        log.debug("Updated {} of {} bookings by owner with id {}", ids.size(), approvals.size(), userId);
+        final List<BookingApprovalResultDto> results = new ArrayList<>(approvals.size());
+        final Set<Long> reported = new HashSet<>();
+        for (BookingApprovalDto approval : approvals) {
+            final Long bookingId = approval.getBookingId();
+            if (!reported.add(bookingId)) {
+                results.add(new BookingApprovalResultDto(bookingId, null,
+                        String.format("Booking with id = %d is duplicated", bookingId)));
+            } else if (errors.containsKey(bookingId)) {
+                results.add(new BookingApprovalResultDto(bookingId, null, errors.get(bookingId)));
+            } else {
+                results.add(new BookingApprovalResultDto(bookingId, toStatus(approvedIds.contains(bookingId)), null));
+            }
+        }
+        return results;
     }
 
     @Override
     public BookingDto getById(Long bookingId, Long userId) {
         log.debug("Started checking contains user with userId {} in method getById", userId);
-        checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
         log.debug("Finished checking contains user with userId {} in method getById", userId);
         BooleanExpression byId = QBooking.booking.id.eq(bookingId);
         BooleanExpression byOwner = QBooking.booking.item.owner.id.eq(userId);
@@ -87,51 +185,68 @@ public class BookingServiceImpl implements BookingService {
     }
 
     @Override
-    public List<BookingDto> getAllByState(Long bookerId, State state) {
+    @Timed(value = MetricsConfig.BOOKING_QUERY_TIMER, histogram = true)
+    public Window<BookingDto> getAllByState(Long bookerId,
+                                             @MeterTag("state") State state,
+                                             String cursor,
+                                             Integer size) {
         log.debug("Started checking contains user with bookerId {} in method getAllByState", bookerId);
-        checkUserIsContained(bookerId);
+        userLookup.checkUserIsContained(bookerId);
         log.debug("Finished checking contains user with bookerId {} in method getAllByState", bookerId);
-        LocalDateTime ldt = LocalDateTime.now();
-        Sort sort = Sort.by(Sort.Direction.DESC, "start");
-        return switch (state) {
-            case ALL -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByBookerId(bookerId, sort));
-            case WAITING -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByBookerIdAndStatus(bookerId, Status.WAITING, sort));
-            case REJECTED -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByBookerIdAndStatus(bookerId, Status.REJECTED, sort));
-            case CURRENT -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByBookerIdAndStartBeforeAndEndAfter(bookerId, ldt, ldt, sort));
-            case PAST -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByBookerIdAndEndBefore(bookerId, ldt, sort));
-            case FUTURE -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByBookerIdAndStartAfter(bookerId, ldt, sort));
-        };
+        BooleanExpression byBooker = QBooking.booking.booker.id.eq(bookerId);
+        return bookingRepository.findBookingDtos(byBooker.and(byState(state)), BookingCursor.decode(cursor), size);
     }
 
     @Override
-    public List<BookingDto> getAllByOwner(Long ownerId, State state) {
+    @Timed(value = MetricsConfig.BOOKING_QUERY_TIMER, histogram = true)
+    public Window<BookingDto> getAllByOwner(Long ownerId,
+                                             @MeterTag("state") State state,
+                                             String cursor,
+                                             Integer size) {
         log.debug("Started checking contains user with bookerId {} in method getAllByOwner", ownerId);
-        checkUserIsContained(ownerId);
+        userLookup.checkUserIsContained(ownerId);
         log.debug("Finished checking contains user with bookerId {} in method getAllByOwner", ownerId);
+        BooleanExpression byOwner = QBooking.booking.item.owner.id.eq(ownerId);
+        return bookingRepository.findBookingDtos(byOwner.and(byState(state)), BookingCursor.decode(cursor), size);
+    }
+
+    @Override
+    @Cacheable(cacheNames = BOOKER_SUMMARY_CACHE, cacheManager = CacheConfig.SUMMARY_CACHE_MANAGER,
+            key = "@bookingSummaryKeys.booker(#bookerId)")
+    public BookingSummaryDto getSummary(Long bookerId) {
+        log.debug("Started checking contains user with bookerId {} in method getSummary", bookerId);
+        userLookup.checkUserIsContained(bookerId);
+        log.debug("Finished checking contains user with bookerId {} in method getSummary", bookerId);
+        return bookingRepository.countByBookerId(bookerId, LocalDateTime.now());
+    }
+
+    @Override
+    @Cacheable(cacheNames = OWNER_SUMMARY_CACHE, cacheManager = CacheConfig.SUMMARY_CACHE_MANAGER,
+            key = "@bookingSummaryKeys.owner(#ownerId)")
+    public BookingSummaryDto getOwnerSummary(Long ownerId) {
+        log.debug("Started checking contains user with ownerId {} in method getOwnerSummary", ownerId);
+        userLookup.checkUserIsContained(ownerId);
+        log.debug("Finished checking contains user with ownerId {} in method getOwnerSummary", ownerId);
+        return bookingRepository.countByOwnerId(ownerId, LocalDateTime.now());
+    }
+
+    private BooleanExpression byState(State state) {
         LocalDateTime ldt = LocalDateTime.now();
-        Sort sort = Sort.by(Sort.Direction.DESC, "start");
+        QBooking booking = QBooking.booking;
         return switch (state) {
-            case ALL -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByItemOwnerId(ownerId, sort));
-            case WAITING -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByItemOwnerIdAndStatus(ownerId, Status.WAITING, sort));
-            case REJECTED -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByItemOwnerIdAndStatus(ownerId, Status.REJECTED, sort));
-            case CURRENT -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByItemOwnerIdAndStartBeforeAndEndAfter(ownerId, ldt, ldt, sort));
-            case PAST -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByItemOwnerIdAndEndBefore(ownerId, ldt, sort));
-            case FUTURE -> BookingMapper.toBookingDto(bookingRepository
-                    .findBookingByItemOwnerIdAndStartAfter(ownerId, ldt, sort));
+            case ALL -> null;
+            case WAITING -> booking.status.eq(Status.WAITING);
+            case REJECTED -> booking.status.eq(Status.REJECTED);
+            case CURRENT -> booking.start.before(ldt).and(booking.end.after(ldt));
+            case PAST -> booking.end.before(ldt);
+            case FUTURE -> booking.start.after(ldt).and(booking.end.after(ldt));
         };
     }
 
+    private static Status toStatus(Boolean approved) {
+        return Boolean.TRUE.equals(approved) ? Status.APPROVED : Status.REJECTED;
+    }
+
     private void checkAvailable(Item item) {
         if (!item.getAvailable()) {
             log.warn("Item with id {} not available", item.getId());
@@ -140,20 +255,13 @@ public class BookingServiceImpl implements BookingService {
     }
 
     private void isOverlappingTime(NewBookingDto newBookingDto, Item item) {
-        final List<Booking> bookings = bookingRepository.findBookingByItemId(item.getId());
-        if (bookings.stream()
-                .anyMatch(booking -> (newBookingDto.getStart().compareTo(booking.getEnd()) <= 0
-                        && newBookingDto.getEnd().compareTo(booking.getStart()) >= 0))) {
+        if (bookingRepository.existsOverlappingBooking(item.getId(),
+                Status.BOOKED,
+                newBookingDto.getStart(),
+                newBookingDto.getEnd())) {
             log.warn("Item with id {} is busy", item.getId());
             throw new InvalidRequestException(String.format("Item with id = %d is busy", item.getId()));
         }
     }
 
-    private User checkUserIsContained(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.warn("User with id {} not found", userId);
-                    return new NotFoundException(String.format("User with id = %d not found", userId));
-                });
-    }
 }
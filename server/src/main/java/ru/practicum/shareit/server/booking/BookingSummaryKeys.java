@@ -0,0 +1,21 @@
+package ru.practicum.shareit.server.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.common.CollectionVersions;
+
+@Component
+@RequiredArgsConstructor
+public class BookingSummaryKeys {
+    private final CollectionVersions collectionVersions;
+
+    // the version is read before the counts, so counts read during a booking commit go under the version before it
+    public SimpleKey booker(Long bookerId) {
+        return new SimpleKey(bookerId, collectionVersions.current(CollectionVersions.bookerBookings(bookerId)));
+    }
+
+    public SimpleKey owner(Long ownerId) {
+        return new SimpleKey(ownerId, collectionVersions.current(CollectionVersions.ownerBookings(ownerId)));
+    }
+}
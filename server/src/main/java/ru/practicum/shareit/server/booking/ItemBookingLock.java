@@ -0,0 +1,5 @@
+package ru.practicum.shareit.server.booking;
+
+public interface ItemBookingLock {
+    void lockForTransaction(Long itemId);
+}
@@ -6,5 +6,9 @@ public enum State {
     PAST,
     FUTURE,
     WAITING,
-    REJECTED
+    REJECTED;
+
+    public boolean dependsOnTime() {
+        return this == CURRENT || this == PAST || this == FUTURE;
+    }
 }
@@ -1,7 +1,13 @@
 package ru.practicum.shareit.server.booking;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum Status {
     APPROVED,
     WAITING,
     REJECTED;
+
+    public static final Set<Status> BOOKED = Collections.unmodifiableSet(EnumSet.of(WAITING, APPROVED));
 }
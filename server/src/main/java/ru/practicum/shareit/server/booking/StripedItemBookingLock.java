@@ -0,0 +1,41 @@
+package ru.practicum.shareit.server.booking;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "shareit.booking.lock", havingValue = "striped")
+public class StripedItemBookingLock implements ItemBookingLock {
+    static final int STRIPES = 1024;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public StripedItemBookingLock() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void lockForTransaction(Long itemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Item booking lock needs an active transaction");
+        }
+        ReentrantLock lock = stripe(itemId);
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    ReentrantLock stripe(Long itemId) {
+        int hash = Long.hashCode(itemId);
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.server.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.server.booking.Status;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingApprovalResultDto {
+    private Long bookingId;
+    private Status status;
+    private String error;
+}
@@ -3,10 +3,9 @@ package ru.practicum.shareit.server.comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
-import java.util.Set;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByItemId(Long itemId);
 
-    List<Comment> findByItemIdIn(Set<Long> itemId);
+    List<Comment> findByItemOwnerId(Long ownerId);
 }
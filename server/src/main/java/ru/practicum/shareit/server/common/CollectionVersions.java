@@ -0,0 +1,105 @@
+package ru.practicum.shareit.server.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import ru.practicum.shareit.server.booking.BookingSavedEvent;
+import ru.practicum.shareit.server.item.ItemSavedEvent;
+import ru.practicum.shareit.server.request.ItemRequestCreatedEvent;
+import ru.practicum.shareit.server.user.UserDeletedEvent;
+import ru.practicum.shareit.server.user.UserUpdatedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class CollectionVersions {
+    public static final String USERS = "users";
+    public static final String ITEMS = "items";
+    public static final String REQUESTS = "requests";
+    private static final long MAX_VERSIONS = 100_000;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<String, Long> versions = Caffeine.newBuilder()
+            .maximumSize(MAX_VERSIONS)
+            .build();
+
+    public static String user(Long userId) {
+        return USERS + ":" + userId;
+    }
+
+    public static String ownerItems(Long ownerId) {
+        return ITEMS + ":" + ownerId;
+    }
+
+    public static String bookerBookings(Long bookerId) {
+        return "bookings:booker:" + bookerId;
+    }
+
+    public static String ownerBookings(Long ownerId) {
+        return "bookings:owner:" + ownerId;
+    }
+
+    public boolean checkNotModified(ServletWebRequest request, Long userId, String... collections) {
+        StringBuilder eTag = new StringBuilder("\"").append(epoch).append('-').append(userId);
+        for (String collection : collections) {
+            eTag.append('-').append(Long.toString(current(collection), Character.MAX_RADIX));
+        }
+        // pages of one collection differ by state, cursor and size, so the tag covers the query parameters too
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+        if (!parameters.isEmpty()) {
+            StringBuilder query = new StringBuilder();
+            parameters.forEach((name, values) -> query.append(name).append('=')
+                    .append(String.join(",", values)).append('&'));
+            eTag.append('-').append(DigestUtils.md5DigestAsHex(query.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            request.getResponse().setHeader(HttpHeaders.VARY, "X-Sharer-User-Id");
+        }
+        return request.checkNotModified(eTag.append('"').toString());
+    }
+
+    public void bump(String collection) {
+        versions.put(collection, sequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener
+    public void onBookingSaved(BookingSavedEvent event) {
+        bump(bookerBookings(event.getBookerId()));
+        bump(ownerBookings(event.getOwnerId()));
+    }
+
+    @TransactionalEventListener
+    public void onItemSaved(ItemSavedEvent event) {
+        bump(ITEMS);
+        bump(ownerItems(event.getOwnerId()));
+    }
+
+    @TransactionalEventListener
+    public void onItemRequestCreated(ItemRequestCreatedEvent event) {
+        bump(REQUESTS);
+    }
+
+    @TransactionalEventListener
+    public void onUserUpdated(UserUpdatedEvent event) {
+        bump(USERS);
+        bump(user(event.getUserId()));
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        bump(USERS);
+        bump(user(event.getUserId()));
+    }
+
+    public long current(String collection) {
+        return versions.get(collection, key -> sequence.incrementAndGet());
+    }
+}
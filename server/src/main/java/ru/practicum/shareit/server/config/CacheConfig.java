@@ -0,0 +1,39 @@
+package ru.practicum.shareit.server.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import ru.practicum.shareit.server.booking.BookingServiceImpl;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+    public static final String SUMMARY_CACHE_MANAGER = "summaryCacheManager";
+
+    // not transaction aware: a put deferred to the reader's commit could store data read before a write after its
+    // eviction. Cached values are keyed by collection version instead, so values of an old version are not read
+    @Bean
+    @Primary
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        cacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return cacheManager;
+    }
+
+    @Bean(SUMMARY_CACHE_MANAGER)
+    public CacheManager summaryCacheManager(@Value("${shareit.booking.summary.cache-spec}") String summarySpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(BookingServiceImpl.BOOKER_SUMMARY_CACHE, Caffeine.from(summarySpec).build());
+        cacheManager.registerCustomCache(BookingServiceImpl.OWNER_SUMMARY_CACHE, Caffeine.from(summarySpec).build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.server.config;
+
+import io.micrometer.core.aop.MeterTagAnnotationHandler;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+    public static final String SERVICE_TIMER = "shareit.service";
+    public static final String BOOKING_QUERY_TIMER = "shareit.booking.query";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry, BeanFactory beanFactory) {
+        TimedAspect timedAspect = new TimedAspect(meterRegistry);
+        timedAspect.setMeterTagAnnotationHandler(new MeterTagAnnotationHandler(beanFactory::getBean,
+                beanFactory::getBean));
+        return timedAspect;
+    }
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+}
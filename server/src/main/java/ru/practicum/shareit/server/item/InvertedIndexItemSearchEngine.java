@@ -0,0 +1,323 @@
+package ru.practicum.shareit.server.item;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserDeletedEvent;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.search.engine", havingValue = "index")
+public class InvertedIndexItemSearchEngine implements ItemSearchEngine {
+    private static final int GRAM_LENGTH = 3;
+    private static final int BATCH_SIZE = 1000;
+    private static final long ITEM_OVERHEAD_BYTES = 64;
+    private static final long POSTING_OVERHEAD_BYTES = 80;
+    private final ItemRepository itemRepository;
+    private final ItemSearchEngine fallback;
+    private final long maxBytes;
+    private final Timer rebuildTimer;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Index index = new Index();
+    private List<Object> pending;
+    private boolean ready;
+
+    public InvertedIndexItemSearchEngine(ItemRepository itemRepository,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${shareit.search.index.max-bytes:67108864}") long maxBytes) {
+        this.itemRepository = itemRepository;
+        this.fallback = new LikeItemSearchEngine(itemRepository);
+        this.maxBytes = maxBytes;
+        this.rebuildTimer = Timer.builder("shareit.search.index.rebuild")
+                .description("Time to rebuild the item search index")
+                .register(meterRegistry);
+        Gauge.builder("shareit.search.index.bytes", this, InvertedIndexItemSearchEngine::getBytes)
+                .description("Estimated memory used by the item search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("shareit.search.index.items", this, InvertedIndexItemSearchEngine::getItemCount)
+                .description("Items held by the item search index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        rebuildTimer.record(() -> {
+            lock.writeLock().lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            Index built = new Index();
+            Page<Item> page;
+            int number = 0;
+            do {
+                page = itemRepository.findAll(PageRequest.of(number++, BATCH_SIZE, Sort.by("id")));
+                for (Item item : page) {
+                    if (!built.put(ItemSavedEvent.of(item))) {
+                        built = null;
+                        break;
+                    }
+                }
+            } while (built != null && page.hasNext());
+            lock.writeLock().lock();
+            try {
+                for (Object event : pending) {
+                    if (built != null && !built.apply(event)) {
+                        built = null;
+                    }
+                }
+                pending = null;
+                index = built == null ? new Index() : built;
+                ready = built != null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (built == null) {
+                log.warn("Item search index exceeded {} bytes, searching the database until the next rebuild",
+                        maxBytes);
+            } else {
+                log.info("Item search index rebuilt with {} items, {} bytes", built.items.size(), built.bytes);
+            }
+        });
+    }
+
+    // once the cap is exceeded searches go to the database until a retry fits the items into the cap again
+    @Scheduled(cron = "${shareit.search.index.retry-cron:0 */10 * * * *}")
+    public synchronized void retry() {
+        lock.readLock().lock();
+        try {
+            if (ready) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        rebuild();
+    }
+
+    @TransactionalEventListener
+    public void onItemSaved(ItemSavedEvent event) {
+        onChanged(event);
+    }
+
+    @TransactionalEventListener
+    public void onUserDeleted(UserDeletedEvent event) {
+        onChanged(event);
+    }
+
+    @Override
+    public List<Item> search(String text, int from, int size) {
+        String query = text.toLowerCase(Locale.ROOT);
+        List<Item> found = query.length() < GRAM_LENGTH ? null : find(query, from, size);
+        return found == null ? fallback.search(text, from, size) : found;
+    }
+
+    private void onChanged(Object event) {
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                pending.add(event);
+            }
+            if (ready && !index.apply(event)) {
+                log.warn("Item search index exceeded {} bytes, searching the database until the next rebuild",
+                        maxBytes);
+                ready = false;
+                index = new Index();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Item> find(String query, int from, int size) {
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return null;
+            }
+            List<LongPostingList> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                LongPostingList list = index.postings.get(gram);
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(LongPostingList::size));
+            long[] candidates = lists.getFirst().toArray();
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = lists.get(i).intersect(candidates);
+            }
+            List<IndexedItem> byName = new ArrayList<>();
+            List<IndexedItem> byDescription = new ArrayList<>();
+            for (long id : candidates) {
+                IndexedItem item = index.items.get(id);
+                if (item.lowerName.contains(query)) {
+                    byName.add(item);
+                } else if (item.lowerDescription.contains(query)) {
+                    byDescription.add(item);
+                }
+            }
+            byName.addAll(byDescription);
+            return byName.stream()
+                    .skip(from)
+                    .limit(size)
+                    .map(IndexedItem::toItem)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double getBytes() {
+        lock.readLock().lock();
+        try {
+            return index.bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double getItemCount() {
+        lock.readLock().lock();
+        try {
+            return index.items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private final class Index {
+        private final Map<Long, IndexedItem> items = new HashMap<>();
+        private final Map<String, LongPostingList> postings = new HashMap<>();
+        private long bytes;
+
+        boolean apply(Object event) {
+            if (event instanceof ItemSavedEvent saved) {
+                remove(saved.getId());
+                return put(saved);
+            }
+            Long userId = ((UserDeletedEvent) event).getUserId();
+            items.values().stream()
+                    .filter(item -> Objects.equals(item.ownerId, userId))
+                    .map(item -> item.id)
+                    .toList()
+                    .forEach(this::remove);
+            return true;
+        }
+
+        boolean put(ItemSavedEvent event) {
+            if (!Boolean.TRUE.equals(event.getAvailable())) {
+                return true;
+            }
+            IndexedItem item = new IndexedItem(event.getId(), event.getOwnerId(), event.getName(),
+                    event.getDescription());
+            Set<String> grams = item.grams();
+            long itemBytes = item.bytes() + (long) grams.size() * Long.BYTES;
+            if (bytes + itemBytes > maxBytes) {
+                return false;
+            }
+            items.put(item.id, item);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> {
+                    bytes += POSTING_OVERHEAD_BYTES;
+                    return new LongPostingList();
+                }).add(item.id);
+            }
+            bytes += itemBytes;
+            return true;
+        }
+
+        void remove(Long id) {
+            IndexedItem item = items.remove(id);
+            if (item == null) {
+                return;
+            }
+            Set<String> grams = item.grams();
+            for (String gram : grams) {
+                LongPostingList list = postings.get(gram);
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                    bytes -= POSTING_OVERHEAD_BYTES;
+                }
+            }
+            bytes -= item.bytes() + (long) grams.size() * Long.BYTES;
+        }
+    }
+
+    private static final class IndexedItem {
+        private final long id;
+        private final Long ownerId;
+        private final String name;
+        private final String description;
+        // lowercased once here, so a search only compares against the query
+        private final String lowerName;
+        private final String lowerDescription;
+
+        IndexedItem(long id, Long ownerId, String name, String description) {
+            this.id = id;
+            this.ownerId = ownerId;
+            this.name = name;
+            this.description = description;
+            this.lowerName = name.toLowerCase(Locale.ROOT);
+            this.lowerDescription = description.toLowerCase(Locale.ROOT);
+        }
+
+        Set<String> grams() {
+            Set<String> grams = InvertedIndexItemSearchEngine.grams(lowerName);
+            grams.addAll(InvertedIndexItemSearchEngine.grams(lowerDescription));
+            return grams;
+        }
+
+        long bytes() {
+            return ITEM_OVERHEAD_BYTES + 4L * (name.length() + description.length());
+        }
+
+        Item toItem() {
+            Item item = new Item();
+            item.setId(id);
+            item.setName(name);
+            item.setDescription(description);
+            User owner = new User();
+            owner.setId(ownerId);
+            item.setOwner(owner);
+            item.setAvailable(Boolean.TRUE);
+            return item;
+        }
+    }
+}
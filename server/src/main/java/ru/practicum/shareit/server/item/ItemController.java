@@ -1,7 +1,10 @@
 package ru.practicum.shareit.server.item;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,11 +16,15 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.NewCommentDto;
+import ru.practicum.shareit.server.item.dto.BulkImportDto;
 import ru.practicum.shareit.server.item.dto.ItemAllDto;
+import ru.practicum.shareit.server.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.item.dto.NewItemDto;
 import ru.practicum.shareit.server.item.dto.UpdateItemDto;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -26,6 +33,7 @@ import java.util.List;
 @Slf4j
 public class ItemController {
     private final ItemService itemService;
+    private final ItemImporter itemImporter;
 
     @PostMapping
     public ItemDto createItem(@RequestBody NewItemDto newItemDto,
@@ -36,6 +44,16 @@ public class ItemController {
         return itemDto;
     }
 
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public BulkImportDto createItems(@RequestHeader(value = "X-Sharer-User-Id") Long ownerId,
+                                     HttpServletRequest request) throws IOException {
+        log.info("Started importing items");
+        final BulkImportDto bulkImportDto = itemImporter.importItems(ownerId, request.getInputStream());
+        log.info("Finished importing items, created {}, failed {}", bulkImportDto.getCreated(),
+                bulkImportDto.getFailed());
+        return bulkImportDto;
+    }
+
     @PostMapping("/{itemId}/comment")
     public CommentDto createComment(@RequestBody NewCommentDto newCommentDto,
                                     @PathVariable(name = "itemId") Long itemId,
@@ -63,6 +81,19 @@ public class ItemController {
         return itemDto;
     }
 
+    @GetMapping("/{itemId}/availability")
+    public ItemAvailabilityDto getAvailability(@PathVariable(value = "itemId") Long itemId,
+                                               @RequestHeader(value = "X-Sharer-User-Id") Long userId,
+                                               @RequestParam(value = "from")
+                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                               @RequestParam(value = "to")
+                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.info("Started getting availability of item with id = {}", itemId);
+        final ItemAvailabilityDto availabilityDto = itemService.getAvailability(itemId, userId, from, to);
+        log.info("Finished getting availability of item with id = {}", itemId);
+        return availabilityDto;
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto update(@RequestBody UpdateItemDto updateItemDto,
                           @PathVariable(value = "itemId") Long itemId,
@@ -75,9 +106,11 @@ public class ItemController {
 
     @GetMapping("/search")
     public List<ItemDto> getBySearch(@RequestParam(value = "text") String text,
+                                     @RequestParam(value = "from", defaultValue = "0") Integer from,
+                                     @RequestParam(value = "size", defaultValue = "10") Integer size,
                                      @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
         log.info("Started searching item contained text: {}", text);
-        final List<ItemDto> itemsDto = itemService.getBySearch(userId, text);
+        final List<ItemDto> itemsDto = itemService.getBySearch(userId, text, from, size);
         log.info("Finished searching item contained text: {}", text);
         return itemsDto;
     }
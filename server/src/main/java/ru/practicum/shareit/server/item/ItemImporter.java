@@ -0,0 +1,68 @@
+package ru.practicum.shareit.server.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.exception.InvalidRequestException;
+import ru.practicum.shareit.server.item.dto.BulkImportDto;
+import ru.practicum.shareit.server.item.dto.BulkItemDto;
+import ru.practicum.shareit.server.item.dto.BulkItemResultDto;
+import ru.practicum.shareit.server.user.UserLookup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ItemImporter {
+    static final int CHUNK_SIZE = 1000;
+    private final ItemService itemService;
+    private final UserLookup userLookup;
+    private final ObjectMapper objectMapper;
+
+    public BulkImportDto importItems(Long userId, InputStream ndjson) throws IOException {
+        userLookup.checkUserIsContained(userId);
+        List<BulkItemResultDto> results = new ArrayList<>();
+        List<BulkItemDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        int line = 0;
+        String error = null;
+        try (MappingIterator<BulkItemDto> lines = objectMapper.readerFor(BulkItemDto.class).readValues(ndjson)) {
+            while (lines.hasNextValue()) {
+                BulkItemDto bulkItem = lines.nextValue();
+                line = bulkItem.getLine() == null ? line + 1 : bulkItem.getLine();
+                chunk.add(bulkItem);
+                if (chunk.size() == CHUNK_SIZE) {
+                    results.addAll(itemService.createAll(userId, chunk));
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Bulk items are not valid JSON: {}", e.getOriginalMessage());
+            if (results.isEmpty()) {
+                throw new InvalidRequestException("Bulk items must be JSON objects, one per line");
+            }
+            error = "Line is not a valid JSON object, the following lines were not read";
+        } catch (IOException e) {
+            if (results.isEmpty()) {
+                throw e;
+            }
+            log.warn("Bulk items of user with id {} could not be read after line {}", userId, line, e);
+            error = "Request body could not be read, the following lines were not read";
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(itemService.createAll(userId, chunk));
+        }
+        if (error != null) {
+            results.add(new BulkItemResultDto(line + 1, null, error));
+        }
+        int failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        log.debug("Imported {} items for user with id {}, {} lines failed", results.size() - failed, userId, failed);
+        return new BulkImportDto(results.size() - failed, failed, results, error == null);
+    }
+}
@@ -1,15 +1,33 @@
 package ru.practicum.shareit.server.item;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Set;
 
-public interface ItemRepository extends JpaRepository<Item, Long>, QuerydslPredicateExecutor<Item> {
+public interface ItemRepository extends JpaRepository<Item, Long>,
+        QuerydslPredicateExecutor<Item>,
+        ItemRepositoryCustom {
     List<Item> findAllByOwnerId(Long userId);
 
     List<Item> findAllByItemRequestIdIn(Set<Long> requestId);
 
     List<Item> findAllByItemRequestId(Long requestId);
+
+    @Query(value = """
+            select i.* from items as i
+            where i.available
+            and (lower(i.name) like :pattern or lower(i.description) like :pattern)
+            order by lower(i.name) like :pattern desc,
+            word_similarity(:text, lower(i.name)) desc,
+            i.id
+            offset :from limit :size
+            """, nativeQuery = true)
+    List<Item> searchByTrigram(@Param("text") String text,
+                               @Param("pattern") String pattern,
+                               @Param("from") int from,
+                               @Param("size") int size);
 }
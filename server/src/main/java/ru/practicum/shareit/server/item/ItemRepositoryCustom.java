@@ -0,0 +1,7 @@
+package ru.practicum.shareit.server.item;
+
+import java.util.List;
+
+public interface ItemRepositoryCustom {
+    List<Item> searchByLike(String text, int from, int size);
+}
@@ -0,0 +1,32 @@
+package ru.practicum.shareit.server.item;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+public class ItemRepositoryCustomImpl implements ItemRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    public ItemRepositoryCustomImpl(EntityManager entityManager) {
+        this.queryFactory = new JPAQueryFactory(entityManager);
+    }
+
+    @Override
+    public List<Item> searchByLike(String text, int from, int size) {
+        QItem item = QItem.item;
+        BooleanExpression byName = item.name.containsIgnoreCase(text);
+        BooleanExpression byDescription = item.description.containsIgnoreCase(text);
+        NumberExpression<Integer> rank = new CaseBuilder().when(byName).then(0).otherwise(1);
+        return queryFactory
+                .selectFrom(item)
+                .where(byName.or(byDescription).and(item.available.isTrue()))
+                .orderBy(rank.asc(), item.id.asc())
+                .offset(from)
+                .limit(size)
+                .fetch();
+    }
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.server.item;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemSavedEvent {
+    private final Long id;
+    private final Long ownerId;
+    private final String name;
+    private final String description;
+    private final Boolean available;
+
+    public static ItemSavedEvent of(Item item) {
+        return new ItemSavedEvent(item.getId(),
+                item.getOwner().getId(),
+                item.getName(),
+                item.getDescription(),
+                item.getAvailable());
+    }
+}
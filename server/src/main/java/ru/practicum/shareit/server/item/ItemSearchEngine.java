@@ -0,0 +1,7 @@
+package ru.practicum.shareit.server.item;
+
+import java.util.List;
+
+public interface ItemSearchEngine {
+    List<Item> search(String text, int from, int size);
+}
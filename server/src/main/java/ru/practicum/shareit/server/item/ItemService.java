@@ -3,23 +3,31 @@ package ru.practicum.shareit.server.item;
 import ru.practicum.shareit.server.comment.Comment;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.NewCommentDto;
+import ru.practicum.shareit.server.item.dto.BulkItemDto;
+import ru.practicum.shareit.server.item.dto.BulkItemResultDto;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.item.dto.ItemAllDto;
+import ru.practicum.shareit.server.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.server.item.dto.NewItemDto;
 import ru.practicum.shareit.server.item.dto.UpdateItemDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ItemService {
     ItemDto create(Long userId, NewItemDto newItemDto);
 
+    List<BulkItemResultDto> createAll(Long userId, List<BulkItemDto> bulkItems);
+
     ItemDto update(Long itemId, Long userId, UpdateItemDto updateItemDto);
 
     List<ItemAllDto> getAllByUserId(Long userId);
 
     ItemAllDto getById(Long itemId, Long userId);
 
-    List<ItemDto> getBySearch(Long userId, String text);
+    ItemAvailabilityDto getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to);
+
+    List<ItemDto> getBySearch(Long userId, String text, Integer from, Integer size);
 
     CommentDto createComment(Long itemId, Long userId, NewCommentDto newCommentDto);
 
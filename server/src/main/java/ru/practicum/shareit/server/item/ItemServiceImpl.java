@@ -1,12 +1,14 @@
 package ru.practicum.shareit.server.item;
 
-import com.querydsl.core.types.dsl.BooleanExpression;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.server.booking.Booking;
+import ru.practicum.shareit.server.booking.BookingCalendar;
 import ru.practicum.shareit.server.booking.BookingRepository;
 import ru.practicum.shareit.server.booking.Status;
 import ru.practicum.shareit.server.comment.Comment;
@@ -14,23 +16,31 @@ import ru.practicum.shareit.server.comment.CommentMapper;
 import ru.practicum.shareit.server.comment.CommentRepository;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.NewCommentDto;
+import ru.practicum.shareit.server.config.MetricsConfig;
 import ru.practicum.shareit.server.exception.ConditionsNotMetException;
 import ru.practicum.shareit.server.exception.InvalidRequestException;
 import ru.practicum.shareit.server.exception.NotFoundException;
+import ru.practicum.shareit.server.item.dto.BulkItemDto;
+import ru.practicum.shareit.server.item.dto.BulkItemResultDto;
 import ru.practicum.shareit.server.item.dto.ItemAllDto;
+import ru.practicum.shareit.server.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.item.dto.NewItemDto;
 import ru.practicum.shareit.server.item.dto.UpdateItemDto;
 import ru.practicum.shareit.server.request.ItemRequest;
 import ru.practicum.shareit.server.request.ItemRequestRepository;
 import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserLookup;
 import ru.practicum.shareit.server.user.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -38,29 +48,77 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Observed(name = MetricsConfig.SERVICE_TIMER)
 public class ItemServiceImpl implements ItemService {
+    private static final int MAX_PAGE_SIZE = 100;
     private final ItemRepository itemRepository;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final UserLookup userLookup;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemSearchEngine itemSearchEngine;
+    private final BookingCalendar bookingCalendar;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public ItemDto create(Long userId, NewItemDto newItemDto) {
         log.debug("Started checking contains user with userId {} in method create", userId);
-        final User user = checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
+        final User user = userRepository.getReferenceById(userId);
         log.debug("Finished checking contains user with userId {} in method create", userId);
         final ItemRequest itemRequest = checkItemRequestIsContained(newItemDto.getRequestId());
-        final Item item = ItemMapper.toItem(user, newItemDto, itemRequest);
-        return ItemMapper.toItemDto(itemRepository.save(item));
+        final Item item = itemRepository.save(ItemMapper.toItem(user, newItemDto, itemRequest));
+        eventPublisher.publishEvent(ItemSavedEvent.of(item));
+        return ItemMapper.toItemDto(item);
+    }
+
+    @Override
+    @Transactional
+    public List<BulkItemResultDto> createAll(Long userId, List<BulkItemDto> bulkItems) {
+        final User user = userRepository.getReferenceById(userId);
+        final Set<Long> requestIds = bulkItems.stream()
+                .filter(bulkItem -> bulkItem.getError() == null)
+                .map(BulkItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        final Map<Long, ItemRequest> itemRequests = itemRequestRepository.findAllById(requestIds)
+                .stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+        final List<BulkItemResultDto> results = new ArrayList<>(bulkItems.size());
+        final List<Item> items = new ArrayList<>(bulkItems.size());
+        for (BulkItemDto bulkItem : bulkItems) {
+            if (bulkItem.getError() != null) {
+                results.add(new BulkItemResultDto(bulkItem.getLine(), null, bulkItem.getError()));
+            } else if (bulkItem.getRequestId() != null && !itemRequests.containsKey(bulkItem.getRequestId())) {
+                results.add(new BulkItemResultDto(bulkItem.getLine(),
+                        null,
+                        String.format("ItemRequest with id = %d not found", bulkItem.getRequestId())));
+            } else {
+                final Item item = ItemMapper.toItem(user, bulkItem, itemRequests.get(bulkItem.getRequestId()));
+                items.add(item);
+                results.add(new BulkItemResultDto(bulkItem.getLine(), null, null));
+            }
+        }
+        itemRepository.saveAll(items);
+        int saved = 0;
+        for (BulkItemResultDto result : results) {
+            if (result.getError() == null) {
+                final Item item = items.get(saved++);
+                result.setId(item.getId());
+                eventPublisher.publishEvent(ItemSavedEvent.of(item));
+            }
+        }
+        return results;
     }
 
     @Override
     @Transactional
     public CommentDto createComment(Long itemId, Long userId, NewCommentDto newCommentDto) {
         log.debug("Started checking contains user with userId {} in method createComment", userId);
-        final User user = checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
+        final User user = userRepository.getReferenceById(userId);
         final Item item = checkItemIsContained(itemId);
         final List<Booking> booking = bookingRepository
                 .findBookingByBookerIdAndItemIdAndStatus(userId, itemId, Status.APPROVED);
@@ -76,7 +134,7 @@ public class ItemServiceImpl implements ItemService {
         log.debug("Started checking contains user with userId {} and item with itemId {} in method update",
                 userId,
                 itemId);
-        checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
 
         final Item item = checkItemIsContained(itemId);
         log.debug("Finished checking contains user with userId {} and item with itemId {} in method update",
@@ -92,13 +150,15 @@ public class ItemServiceImpl implements ItemService {
         if (Objects.nonNull(updateItemDto.getAvailable())) {
             item.setAvailable(updateItemDto.getAvailable());
         }
-        return ItemMapper.toItemDto(itemRepository.save(item));
+        final Item savedItem = itemRepository.save(item);
+        eventPublisher.publishEvent(ItemSavedEvent.of(savedItem));
+        return ItemMapper.toItemDto(savedItem);
     }
 
     @Override
     public List<ItemAllDto> getAllByUserId(Long userId) {
         log.debug("Started checking contains user with userId {} in method getAllByUserId", userId);
-        checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
         log.debug("Finished checking contains user with userId {} in method getAllByUserId", userId);
         LocalDateTime ldt = LocalDateTime.now();
         // key-itemId, value-item
@@ -106,16 +166,15 @@ public class ItemServiceImpl implements ItemService {
                 .stream()
                 .collect(Collectors.toMap(Item::getId, Function.identity()));
         // key-itemId, value-booking
-        Map<Long, Booking> bookingLastMap = bookingRepository
-                .findLastBookingWith(itemMap.keySet(), userId, ldt)
-                .stream()
-                .collect(Collectors.toMap(booking -> booking.getItem().getId(), Function.identity()));
-        Map<Long, Booking> bookingNextMap = bookingRepository
-                .findNextBookingWith(itemMap.keySet(), userId, ldt)
-                .stream()
-                .collect(Collectors.toMap(booking -> booking.getItem().getId(), Function.identity()));
+        Map<Long, Booking> bookingLastMap = new HashMap<>();
+        Map<Long, Booking> bookingNextMap = new HashMap<>();
+        if (!itemMap.isEmpty()) {
+            bookingRepository.findLastAndNextBookings(userId, ldt)
+                    .forEach(booking -> (booking.getEnd().isBefore(ldt) ? bookingLastMap : bookingNextMap)
+                            .put(booking.getItem().getId(), booking));
+        }
         Map<Long, List<Comment>> commentMap = commentRepository
-                .findByItemIdIn(itemMap.keySet())
+                .findByItemOwnerId(userId)
                 .stream()
                 .collect(Collectors.groupingBy(item -> item.getItem().getId()));
         return itemMap.values()
@@ -134,32 +193,39 @@ public class ItemServiceImpl implements ItemService {
         Sort lastSort = Sort.by(Sort.Direction.DESC, "end");
         Sort nextSort = Sort.by(Sort.Direction.ASC, "start");
 
-        checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
         final List<Comment> comments = getCommentsByItemId(itemId);
 
         final Booking lastBooking = bookingRepository
                 .findFirstByItemIdAndItemOwnerIdAndEndIsBefore(itemId, userId, ldt, lastSort)
                 .orElse(null);
         final Booking nextBooking = bookingRepository
-                .findFirstByItemIdAndItemOwnerIdAndStartIsAfter(itemId, userId, ldt, nextSort)
+                .findFirstByItemIdAndItemOwnerIdAndStartIsAfterAndEndIsAfter(itemId, userId, ldt, ldt, nextSort)
                 .orElse(null);
         final Item item = checkItemIsContained(itemId);
         return ItemMapper.toItemAllDto(item, comments, lastBooking, nextBooking);
     }
 
     @Override
-    public List<ItemDto> getBySearch(Long userId, String text) {
+    public ItemAvailabilityDto getAvailability(Long itemId, Long userId, LocalDateTime from, LocalDateTime to) {
+        log.debug("Started checking contains user with userId {} in method getAvailability", userId);
+        userLookup.checkUserIsContained(userId);
+        log.debug("Finished checking contains user with userId {} in method getAvailability", userId);
+        checkPeriod(from, to);
+        return bookingCalendar.getAvailability(itemId, from, to);
+    }
+
+    @Override
+    public List<ItemDto> getBySearch(Long userId, String text, Integer from, Integer size) {
         log.debug("Started checking contains user with userId {} in method getBySearch", userId);
-        checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
         log.debug("Finished checking contains user with userId {} in method getBySearch", userId);
+        checkPage(from, size);
 
         if (text.isBlank()) {
             return Collections.emptyList();
         } else {
-            BooleanExpression byName = QItem.item.name.containsIgnoreCase(text);
-            BooleanExpression byDescription = QItem.item.description.containsIgnoreCase(text);
-            BooleanExpression byAvailable = QItem.item.available.isTrue();
-            return ItemMapper.toItemDto(itemRepository.findAll((byName.or(byDescription)).and(byAvailable)));
+            return ItemMapper.toItemDto(itemSearchEngine.search(text, from, size));
         }
     }
 
@@ -168,6 +234,20 @@ public class ItemServiceImpl implements ItemService {
         return commentRepository.findByItemId(itemId);
     }
 
+    private void checkPage(Integer from, Integer size) {
+        if (from < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            log.warn("Page from {} size {} is not valid", from, size);
+            throw new InvalidRequestException(String.format("Page from must be >= 0 and size in 1..%d", MAX_PAGE_SIZE));
+        }
+    }
+
+    private void checkPeriod(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            log.warn("Period from {} to {} is not valid", from, to);
+            throw new InvalidRequestException("Period from must be before to");
+        }
+    }
+
     private Item checkItemIsContained(Long itemId) {
         return itemRepository.findById(itemId).orElseThrow(() -> {
             log.warn("Item with id {} not found ", itemId);
@@ -175,12 +255,6 @@ public class ItemServiceImpl implements ItemService {
         });
     }
 
-    private User checkUserIsContained(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new NotFoundException(String.format("User with id = %d not found", userId));
-        });
-    }
 
     private ItemRequest checkItemRequestIsContained(Long requestId) {
         if (requestId != null) {
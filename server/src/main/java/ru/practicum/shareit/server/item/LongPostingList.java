@@ -0,0 +1,64 @@
+package ru.practicum.shareit.server.item;
+
+import java.util.Arrays;
+
+final class LongPostingList {
+    private long[] ids = new long[4];
+    private int size;
+
+    boolean add(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+        return true;
+    }
+
+    boolean remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    long[] intersect(long[] sorted) {
+        long[] result = new long[Math.min(size, sorted.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < sorted.length) {
+            if (ids[i] < sorted[j]) {
+                i++;
+            } else if (ids[i] > sorted[j]) {
+                j++;
+            } else {
+                result[count++] = ids[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.server.item.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkImportDto {
+    private Integer created;
+    private Integer failed;
+    private List<BulkItemResultDto> results;
+    private Boolean completed;
+}
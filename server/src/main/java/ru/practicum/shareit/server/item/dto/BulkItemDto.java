@@ -0,0 +1,13 @@
+package ru.practicum.shareit.server.item.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkItemDto extends NewItemDto {
+    private Integer line;
+    private String error;
+}
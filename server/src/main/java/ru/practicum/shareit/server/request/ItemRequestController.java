@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import ru.practicum.shareit.server.common.CollectionVersions;
 import ru.practicum.shareit.server.request.dto.ItemRequestDto;
 import ru.practicum.shareit.server.request.dto.ItemRequestWithItemDto;
 import ru.practicum.shareit.server.request.dto.NewItemRequestDto;
@@ -21,6 +23,7 @@ import java.util.List;
 @Slf4j
 public class ItemRequestController {
     private final ItemRequestService itemRequestService;
+    private final CollectionVersions collectionVersions;
 
     @PostMapping
     public ItemRequestDto createItemRequest(@RequestBody NewItemRequestDto newItemRequestDto,
@@ -33,8 +36,14 @@ public class ItemRequestController {
 
     @GetMapping
     public List<ItemRequestWithItemDto> getItemRequestsByUserId(
-            @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+            @RequestHeader(value = "X-Sharer-User-Id") Long userId,
+            ServletWebRequest request) {
         log.info("Started getting all request with item by user with id = {}", userId);
+        if (collectionVersions.checkNotModified(request, userId,
+                CollectionVersions.USERS, CollectionVersions.ITEMS, CollectionVersions.REQUESTS)) {
+            log.info("Requests by user with id = {} not modified", userId);
+            return null;
+        }
         final List<ItemRequestWithItemDto> itemRequests = itemRequestService.getItemRequestsByUserId(userId);
         log.info("Finished getting all request with item by user with id = {}", userId);
         return itemRequests;
@@ -42,8 +51,14 @@ public class ItemRequestController {
 
     @GetMapping("/all")
     public List<ItemRequestWithItemDto> getItemRequestsByOther(
-            @RequestHeader(value = "X-Sharer-User-Id") Long userId) {
+            @RequestHeader(value = "X-Sharer-User-Id") Long userId,
+            ServletWebRequest request) {
         log.info("Started getting all request with item by user with id not {}", userId);
+        if (collectionVersions.checkNotModified(request, userId,
+                CollectionVersions.USERS, CollectionVersions.ITEMS, CollectionVersions.REQUESTS)) {
+            log.info("Requests by user with id not {} not modified", userId);
+            return null;
+        }
         final List<ItemRequestWithItemDto> itemRequests = itemRequestService.getItemRequestsByOther(userId);
         log.info("Finished getting all request with item by user with id not {}", userId);
         return itemRequests;
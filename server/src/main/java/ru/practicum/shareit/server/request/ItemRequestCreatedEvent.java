@@ -0,0 +1,11 @@
+package ru.practicum.shareit.server.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ItemRequestCreatedEvent {
+    private final Long id;
+    private final Long userId;
+}
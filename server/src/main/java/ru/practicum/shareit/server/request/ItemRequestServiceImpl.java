@@ -1,10 +1,13 @@
 package ru.practicum.shareit.server.request;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.server.common.SortType;
+import ru.practicum.shareit.server.config.MetricsConfig;
 import ru.practicum.shareit.server.exception.NotFoundException;
 import ru.practicum.shareit.server.item.Item;
 import ru.practicum.shareit.server.item.ItemRepository;
@@ -12,6 +15,7 @@ import ru.practicum.shareit.server.request.dto.ItemRequestDto;
 import ru.practicum.shareit.server.request.dto.ItemRequestWithItemDto;
 import ru.practicum.shareit.server.request.dto.NewItemRequestDto;
 import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserLookup;
 import ru.practicum.shareit.server.user.UserRepository;
 
 import java.util.List;
@@ -23,26 +27,32 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Observed(name = MetricsConfig.SERVICE_TIMER)
 public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final UserRepository userRepository;
+    private final UserLookup userLookup;
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRepository itemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public ItemRequestDto createItemRequest(Long userId, NewItemRequestDto newItemRequestDto) {
         log.debug("Started checking contains user with userId {} in method createItemRequest", userId);
-        final User user = checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
+        final User user = userRepository.getReferenceById(userId);
         log.debug("Finished checking contains user with userId {} in method createItemRequest", userId);
         final ItemRequest itemRequest = ItemRequestMapper.toItemRequest(newItemRequestDto, user);
-        return ItemRequestMapper.toItemRequestDto(itemRequestRepository.save(itemRequest));
+        final ItemRequest savedItemRequest = itemRequestRepository.save(itemRequest);
+        eventPublisher.publishEvent(new ItemRequestCreatedEvent(savedItemRequest.getId(), userId));
+        return ItemRequestMapper.toItemRequestDto(savedItemRequest);
     }
 
     @Override
     public List<ItemRequestWithItemDto> getItemRequestsByUserId(Long userId) {
         log.debug("Started checking contains user with userId {} in method getItemRequestsByUserId", userId);
-        final User user = checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
         log.debug("Finished checking contains user with userId {} in method getItemRequestsByUserId", userId);
         //TODO сделать запросы с Fetch JOIN
         //map: key-itemRequestId, value-ItemRequest
@@ -62,7 +72,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     public List<ItemRequestWithItemDto> getItemRequestsByOther(Long userId) {
         //TODO сделать запросы с Fetch JOIN
         log.debug("Started checking contains user with userId {} in method getItemRequestsByOther", userId);
-        final User user = checkUserIsContained(userId);
+        userLookup.checkUserIsContained(userId);
         log.debug("Finished checking contains user with userId {} in method getItemRequestsByOther", userId);
         // map: key-itemRequestId, value-ItemRequest
         final Map<Long, ItemRequest> requestMap = itemRequestRepository
@@ -108,10 +118,4 @@ public class ItemRequestServiceImpl implements ItemRequestService {
                 .toList();
     }
 
-    private User checkUserIsContained(Long userId) {
-        return userRepository.findById(userId).orElseThrow(() -> {
-            log.warn("User with id {} not found", userId);
-            return new NotFoundException(String.format("User with id = %d not found", userId));
-        });
-    }
 }
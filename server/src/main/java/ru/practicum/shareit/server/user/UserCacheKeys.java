@@ -0,0 +1,17 @@
+package ru.practicum.shareit.server.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.common.CollectionVersions;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheKeys {
+    private final CollectionVersions collectionVersions;
+
+    // the version is read before the user, so a user read during an update or delete goes under the version before it
+    public SimpleKey user(Long userId) {
+        return new SimpleKey(userId, collectionVersions.current(CollectionVersions.user(userId)));
+    }
+}
@@ -0,0 +1,10 @@
+package ru.practicum.shareit.server.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserDeletedEvent {
+    private final Long userId;
+}
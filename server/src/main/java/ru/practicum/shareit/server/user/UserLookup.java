@@ -0,0 +1,24 @@
+package ru.practicum.shareit.server.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.server.exception.NotFoundException;
+import ru.practicum.shareit.server.user.dto.UserDto;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserLookup {
+    public static final String USERS_CACHE = "users";
+    private final UserRepository userRepository;
+
+    @Cacheable(cacheNames = USERS_CACHE, key = "@userCacheKeys.user(#userId)")
+    public UserDto checkUserIsContained(Long userId) {
+        return UserMapper.toUserDto(userRepository.findById(userId).orElseThrow(() -> {
+            log.warn("User with id {} not found", userId);
+            return new NotFoundException(String.format("User with id = %d not found", userId));
+        }));
+    }
+}
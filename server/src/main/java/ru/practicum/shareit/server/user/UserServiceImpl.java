@@ -1,9 +1,12 @@
 package ru.practicum.shareit.server.user;
 
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.server.config.MetricsConfig;
 import ru.practicum.shareit.server.exception.NotFoundException;
 import ru.practicum.shareit.server.user.dto.NewUserDto;
 import ru.practicum.shareit.server.user.dto.UpdateUserDto;
@@ -16,8 +19,11 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
+@Observed(name = MetricsConfig.SERVICE_TIMER)
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserLookup userLookup;
 
     @Override
     @Transactional
@@ -40,13 +46,16 @@ public class UserServiceImpl implements UserService {
         if (Objects.nonNull(updateUserDto.getEmail()) && !updateUserDto.getEmail().isBlank()) {
             user.setEmail(updateUserDto.getEmail());
         }
-        return UserMapper.toUserDto(userRepository.save(user));
+        final User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserUpdatedEvent(userId));
+        return UserMapper.toUserDto(savedUser);
     }
 
     @Override
     @Transactional
     public void delete(Long userId) {
         userRepository.deleteById(userId);
+        eventPublisher.publishEvent(new UserDeletedEvent(userId));
     }
 
     @Override
@@ -56,7 +65,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public UserDto getById(Long userId) {
-        return UserMapper.toUserDto(checkUserById(userId));
+        return userLookup.checkUserIsContained(userId);
     }
 
     private User checkUserById(Long userId) {
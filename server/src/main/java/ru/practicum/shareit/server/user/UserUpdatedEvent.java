@@ -0,0 +1,10 @@
+package ru.practicum.shareit.server.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserUpdatedEvent {
+    private final Long userId;
+}
@@ -0,0 +1,11 @@
+CREATE INDEX IF NOT EXISTS idx_booking_item_time ON bookings (item_id, start_time, end_time);
+CREATE INDEX IF NOT EXISTS idx_booking_booker_start ON bookings (user_id, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_booking_booker_status_start ON bookings (user_id, status, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_booking_booker_item_status ON bookings (user_id, item_id, status);
+
+CREATE INDEX IF NOT EXISTS idx_item_owner ON items (user_id);
+CREATE INDEX IF NOT EXISTS idx_item_request ON items (request_id);
+
+CREATE INDEX IF NOT EXISTS idx_comment_item ON comments (item_id);
+
+CREATE INDEX IF NOT EXISTS idx_request_requester_created ON requests (user_id, created_time DESC);
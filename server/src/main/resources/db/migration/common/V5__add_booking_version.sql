@@ -0,0 +1,3 @@
+-- Status transitions are conditional updates on this version, so concurrent approvals cannot both succeed
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+-- H2 has no trigram indexes, items are searched with the like engine
@@ -0,0 +1,92 @@
+-- Bookings are range partitioned by month of end_time, so CURRENT and FUTURE lookups skip finished months.
+-- Rows outside the created months go to bookings_default until create_booking_partition moves them out
+
+CREATE OR REPLACE FUNCTION create_booking_partition(month timestamp) RETURNS boolean AS
+$$
+DECLARE
+    lower_bound    timestamp := date_trunc('month', month);
+    upper_bound    timestamp := date_trunc('month', month) + interval '1 month';
+    partition_name text      := 'bookings_' || to_char(date_trunc('month', month), 'YYYY_MM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('bookings_partitions'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN false;
+    END IF;
+    -- writes wait until the partition is attached; otherwise a row routed to bookings_default between the move
+    -- and ATTACH fails the ATTACH. Reads are not blocked
+    LOCK TABLE bookings IN SHARE ROW EXCLUSIVE MODE;
+    EXECUTE format('CREATE TABLE %I (LIKE bookings INCLUDING DEFAULTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM bookings_default WHERE end_time >= %L AND end_time < %L RETURNING *) '
+                       || 'INSERT INTO %I SELECT * FROM moved', lower_bound, upper_bound, partition_name);
+    EXECUTE format('ALTER TABLE bookings ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, lower_bound, upper_bound);
+    RETURN true;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION archive_booking_partitions(before timestamp, archive_tablespace text) RETURNS integer AS
+$$
+DECLARE
+    booking_partition record;
+    partition_index   record;
+    archived          integer := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('bookings_partitions'));
+    FOR booking_partition IN
+        SELECT c.oid, c.relname
+        FROM pg_inherits AS i
+                 JOIN pg_class AS c ON c.oid = i.inhrelid
+                 LEFT JOIN pg_tablespace AS t ON t.oid = c.reltablespace
+        WHERE i.inhparent = 'bookings'::regclass
+          AND c.relname ~ '^bookings_[0-9]{4}_[0-9]{2}$'
+          AND to_date(substring(c.relname FROM 10), 'YYYY_MM') + interval '1 month' <= before
+          AND t.spcname IS DISTINCT FROM archive_tablespace
+        ORDER BY c.relname
+        LOOP
+            EXECUTE format('ALTER TABLE %I SET TABLESPACE %I', booking_partition.relname, archive_tablespace);
+            FOR partition_index IN SELECT indexrelid::regclass AS name FROM pg_index WHERE indrelid = booking_partition.oid
+                LOOP
+                    EXECUTE format('ALTER INDEX %s SET TABLESPACE %I', partition_index.name, archive_tablespace);
+                END LOOP;
+            archived := archived + 1;
+        END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE bookings RENAME TO bookings_legacy;
+ALTER SEQUENCE bookings_seq OWNED BY NONE;
+
+CREATE TABLE bookings
+(
+    id         bigint      NOT NULL DEFAULT nextval('bookings_seq'),
+    start_time timestamp   NOT NULL,
+    end_time   timestamp   NOT NULL,
+    item_id    bigint      NOT NULL,
+    user_id    bigint      NOT NULL,
+    status     varchar(10) NOT NULL,
+    version    bigint      NOT NULL DEFAULT 0
+) PARTITION BY RANGE (end_time);
+
+CREATE TABLE bookings_default PARTITION OF bookings DEFAULT;
+
+SELECT create_booking_partition(month)
+FROM generate_series(date_trunc('month', LEAST((SELECT MIN(end_time) FROM bookings_legacy), LOCALTIMESTAMP)),
+                     date_trunc('month', LOCALTIMESTAMP) + interval '3 months',
+                     interval '1 month') AS month;
+
+INSERT INTO bookings (id, start_time, end_time, item_id, user_id, status, version)
+SELECT id, start_time, end_time, item_id, user_id, status, version
+FROM bookings_legacy;
+
+DROP TABLE bookings_legacy;
+ALTER SEQUENCE bookings_seq OWNED BY bookings.id;
+
+ALTER TABLE bookings ADD CONSTRAINT pk_booking PRIMARY KEY (id, end_time);
+ALTER TABLE bookings ADD CONSTRAINT fk_item_booking FOREIGN KEY (item_id) REFERENCES items (id) ON DELETE CASCADE;
+ALTER TABLE bookings ADD CONSTRAINT fk_user_booking FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE;
+
+CREATE INDEX IF NOT EXISTS idx_booking_item_time ON bookings (item_id, start_time, end_time);
+CREATE INDEX IF NOT EXISTS idx_booking_booker_start ON bookings (user_id, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_booking_booker_status_start ON bookings (user_id, status, start_time DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_booking_booker_item_status ON bookings (user_id, item_id, status);
@@ -7,10 +7,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalResultDto;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalsDto;
 import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.server.booking.dto.NewBookingDto;
+import ru.practicum.shareit.server.common.CollectionVersions;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.user.dto.UserDto;
 
@@ -18,22 +27,30 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 
 @WebMvcTest(BookingController.class)
+@Import(CollectionVersions.class)
 class BookingControllerTest {
     private static final String API_PREFIX = "/bookings";
     private LocalDateTime ldt1;
@@ -47,6 +64,9 @@ class BookingControllerTest {
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private CollectionVersions collectionVersions;
+
     @MockBean
     private BookingService bookingService;
 
@@ -103,6 +123,30 @@ class BookingControllerTest {
         verify(bookingService, times(1)).update(anyLong(), anyLong(), anyBoolean());
     }
 
+    @Test
+    @SneakyThrows
+    void updateAll() {
+        BookingApprovalsDto approvals = new BookingApprovalsDto(List.of(
+                new BookingApprovalDto(1L, Boolean.TRUE),
+                new BookingApprovalDto(2L, Boolean.FALSE)));
+        List<BookingApprovalResultDto> results = List.of(
+                new BookingApprovalResultDto(1L, Status.APPROVED, null),
+                new BookingApprovalResultDto(2L, null, "Status must be WAITING"));
+
+        when(bookingService.updateAll(1L, approvals.getApprovals())).thenReturn(results);
+
+        mvc.perform(patch(API_PREFIX + "/approvals")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content(objectMapper.writeValueAsString(approvals))
+                        .characterEncoding(StandardCharsets.UTF_8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].bookingId", is(1L), Long.class))
+                .andExpect(jsonPath("$[0].status", is(Status.APPROVED.toString())))
+                .andExpect(jsonPath("$[1].error", is("Status must be WAITING")));
+        verify(bookingService, times(1)).updateAll(1L, approvals.getApprovals());
+    }
+
     @Test
     @SneakyThrows
     void getById() {
@@ -127,7 +171,8 @@ class BookingControllerTest {
     void getAllByState() {
         BookingDto bookingDto = new BookingDto(1L, ldt1, ldt2, itemDto, userDto, Status.APPROVED);
 
-        when(bookingService.getAllByState(anyLong(), any(State.class))).thenReturn(List.of(bookingDto));
+        when(bookingService.getAllByState(anyLong(), any(State.class), isNull(), eq(20)))
+                .thenReturn(Window.from(List.of(bookingDto), ScrollPosition::offset));
 
         mvc.perform(get(API_PREFIX)
                         .header("X-Sharer-User-Id", 1L)
@@ -138,8 +183,28 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$[0].end", is(bookingDto.getEnd().toString())))
                 .andExpect(jsonPath("$[0].status", is(bookingDto.getStatus().toString())))
                 .andExpect(jsonPath("$[0].item", is(bookingDto.getItem()), ItemDto.class))
-                .andExpect(jsonPath("$[0].booker", is(bookingDto.getBooker()), UserDto.class));
-        verify(bookingService, times(1)).getAllByState(anyLong(), any(State.class));
+                .andExpect(jsonPath("$[0].booker", is(bookingDto.getBooker()), UserDto.class))
+                .andExpect(header().doesNotExist(BookingCursor.NEXT_CURSOR_HEADER));
+        verify(bookingService, times(1)).getAllByState(anyLong(), any(State.class), isNull(), eq(20));
+    }
+
+    @Test
+    @SneakyThrows
+    void getSummary() {
+        when(bookingService.getSummary(anyLong())).thenReturn(new BookingSummaryDto(6L, 1L, 2L, 3L, 1L, 1L));
+        when(bookingService.getOwnerSummary(anyLong())).thenReturn(new BookingSummaryDto(3L, 0L, 0L, 3L, 2L, 0L));
+
+        mvc.perform(get(API_PREFIX + "/summary")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.all", is(6L), Long.class))
+                .andExpect(jsonPath("$.future", is(3L), Long.class));
+        mvc.perform(get(API_PREFIX + "/owner/summary")
+                        .header("X-Sharer-User-Id", 2L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.waiting", is(2L), Long.class));
+        verify(bookingService, times(1)).getSummary(1L);
+        verify(bookingService, times(1)).getOwnerSummary(2L);
     }
 
     @Test
@@ -147,18 +212,121 @@ class BookingControllerTest {
     void getAllByOwner() {
         BookingDto bookingDto = new BookingDto(1L, ldt1, ldt2, itemDto, userDto, Status.APPROVED);
 
-        when(bookingService.getAllByOwner(anyLong(), any(State.class))).thenReturn(List.of(bookingDto));
+        ScrollPosition position = ScrollPosition.forward(Map.of("start", ldt1, "id", 1L));
+        String cursor = BookingCursor.next(Window.from(List.of(bookingDto), index -> position, true));
+
+        when(bookingService.getAllByOwner(anyLong(), any(State.class), anyString(), anyInt()))
+                .thenReturn(Window.from(List.of(bookingDto), index -> position, true));
 
         mvc.perform(get(API_PREFIX + "/owner")
                         .header("X-Sharer-User-Id", 1L)
-                        .queryParam("state", State.ALL.name()))
+                        .queryParam("state", State.ALL.name())
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", "1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id", is(bookingDto.getId()), Long.class))
                 .andExpect(jsonPath("$[0].start", is(bookingDto.getStart().toString())))
                 .andExpect(jsonPath("$[0].end", is(bookingDto.getEnd().toString())))
                 .andExpect(jsonPath("$[0].status", is(bookingDto.getStatus().toString())))
                 .andExpect(jsonPath("$[0].item", is(bookingDto.getItem()), ItemDto.class))
-                .andExpect(jsonPath("$[0].booker", is(bookingDto.getBooker()), UserDto.class));
-        verify(bookingService, times(1)).getAllByOwner(anyLong(), any(State.class));
+                .andExpect(jsonPath("$[0].booker", is(bookingDto.getBooker()), UserDto.class))
+                .andExpect(header().string(BookingCursor.NEXT_CURSOR_HEADER, cursor));
+        verify(bookingService, times(1)).getAllByOwner(1L, State.ALL, cursor, 1);
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByOwner_WhenETagMatches_ThenReturnNotModified() {
+        when(bookingService.getAllByOwner(anyLong(), any(State.class), isNull(), anyInt()))
+                .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+        String eTag = mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .queryParam("state", State.WAITING.name()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .queryParam("state", State.WAITING.name()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        verify(bookingService, times(1)).getAllByOwner(1L, State.WAITING, null, 20);
+
+        collectionVersions.onBookingSaved(new BookingSavedEvent(1L, 2L, 1L, 1L, null, null, Status.WAITING));
+
+        mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .queryParam("state", State.WAITING.name()))
+                .andExpect(status().isOk());
+        verify(bookingService, times(2)).getAllByOwner(1L, State.WAITING, null, 20);
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByOwner_WhenQueryDiffers_ThenReturnOtherETag() {
+        when(bookingService.getAllByOwner(anyLong(), any(State.class), isNull(), anyInt()))
+                .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+        String eTag = mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .queryParam("state", State.WAITING.name()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .queryParam("state", State.REJECTED.name()))
+                .andExpect(status().isOk());
+        mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                        .queryParam("state", State.WAITING.name())
+                        .queryParam("size", "5"))
+                .andExpect(status().isOk());
+        verify(bookingService, times(1)).getAllByOwner(1L, State.REJECTED, null, 20);
+        verify(bookingService, times(1)).getAllByOwner(1L, State.WAITING, null, 5);
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByState_WhenStateDependsOnTime_ThenReturnNoETag() {
+        when(bookingService.getAllByState(anyLong(), any(State.class), isNull(), anyInt()))
+                .thenReturn(Window.from(List.of(), ScrollPosition::offset));
+
+        mvc.perform(get(API_PREFIX)
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "*")
+                        .queryParam("state", State.CURRENT.name()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+        verify(bookingService, times(1)).getAllByState(1L, State.CURRENT, null, 20);
+        verify(bookingService, never()).getAllByOwner(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByState_WhenSizeNotPositive_ThenReturnBadRequest() {
+        mvc.perform(get(API_PREFIX)
+                        .header("X-Sharer-User-Id", 1L)
+                        .queryParam("state", State.ALL.name())
+                        .queryParam("size", "0"))
+                .andExpect(status().isBadRequest());
+        verify(bookingService, never()).getAllByState(anyLong(), any(State.class), any(), anyInt());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAllByOwner_WhenSizeTooLarge_ThenReturnBadRequest() {
+        mvc.perform(get(API_PREFIX + "/owner")
+                        .header("X-Sharer-User-Id", 1L)
+                        .queryParam("state", State.ALL.name())
+                        .queryParam("size", "101"))
+                .andExpect(status().isBadRequest());
+        verify(bookingService, never()).getAllByOwner(anyLong(), any(State.class), any(), anyInt());
     }
-}
\ No newline at end of file
+}
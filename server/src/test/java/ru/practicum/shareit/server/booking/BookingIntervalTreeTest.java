@@ -0,0 +1,102 @@
+package ru.practicum.shareit.server.booking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class BookingIntervalTreeTest {
+    private final LocalDateTime base = LocalDateTime.of(2030, Month.JANUARY, 1, 0, 0);
+
+    @Test
+    void forEachGapWhenEmpty() {
+        assertEquals(List.of(List.of(at(0), at(10))), gaps(BookingIntervalTree.EMPTY, 0, 10));
+    }
+
+    @Test
+    void forEachGapWhenIntervalsOverlapAndNest() {
+        BookingIntervalTree tree = BookingIntervalTree.EMPTY
+                .put(1, at(2), at(4))
+                .put(2, at(3), at(6))
+                .put(3, at(4), at(5))
+                .put(4, at(8), at(9))
+                .put(5, at(-5), at(1));
+
+        assertEquals(List.of(List.of(at(1), at(2)), List.of(at(6), at(8)), List.of(at(9), at(10))),
+                gaps(tree, 0, 10));
+        assertEquals(List.of(List.of(at(6), at(7))), gaps(tree, 5, 7));
+        assertEquals(List.of(), gaps(tree, 3, 5));
+    }
+
+    @Test
+    void removeWhenIdIsPresentOrMissing() {
+        BookingIntervalTree tree = BookingIntervalTree.EMPTY
+                .put(1, at(2), at(4))
+                .put(2, at(6), at(8));
+
+        assertSame(tree, tree.remove(3, at(2)));
+        BookingIntervalTree removed = tree.remove(1, at(2));
+        assertEquals(1, removed.size());
+        assertEquals(List.of(List.of(at(0), at(6)), List.of(at(8), at(10))), gaps(removed, 0, 10));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    void forEachGapWhenManyIntervalsThenMatchesLinearScan() {
+        Random random = new Random(42);
+        Map<Long, int[]> intervals = new HashMap<>();
+        BookingIntervalTree tree = BookingIntervalTree.EMPTY;
+        for (long id = 0; id < 2000; id++) {
+            int start = random.nextInt(10_000);
+            int[] interval = {start, start + 1 + random.nextInt(20)};
+            intervals.put(id, interval);
+            tree = tree.put(id, at(interval[0]), at(interval[1]));
+        }
+        for (long id = 0; id < 2000; id += 3) {
+            tree = tree.remove(id, at(intervals.remove(id)[0]));
+        }
+
+        assertEquals(intervals.size(), tree.size());
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(10_000);
+            int to = from + random.nextInt(500);
+            assertEquals(linearGaps(intervals, from, to), gaps(tree, from, to));
+        }
+    }
+
+    private List<List<LocalDateTime>> gaps(BookingIntervalTree tree, int from, int to) {
+        List<List<LocalDateTime>> gaps = new ArrayList<>();
+        tree.forEachGap(at(from), at(to), (start, end) -> gaps.add(List.of(start, end)));
+        return gaps;
+    }
+
+    private List<List<LocalDateTime>> linearGaps(Map<Long, int[]> intervals, int from, int to) {
+        List<List<LocalDateTime>> gaps = new ArrayList<>();
+        int cursor = from;
+        for (int[] interval : intervals.values().stream()
+                .filter(interval -> interval[0] <= to && interval[1] >= from)
+                .sorted((first, second) -> Integer.compare(first[0], second[0]))
+                .toList()) {
+            if (interval[0] > cursor) {
+                gaps.add(List.of(at(cursor), at(interval[0])));
+            }
+            cursor = Math.max(cursor, interval[1]);
+        }
+        if (to > cursor) {
+            gaps.add(List.of(at(cursor), at(to)));
+        }
+        return gaps;
+    }
+
+    private LocalDateTime at(int minutes) {
+        return base.plusMinutes(minutes);
+    }
+}
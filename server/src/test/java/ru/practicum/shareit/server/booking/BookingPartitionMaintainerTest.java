@@ -0,0 +1,49 @@
+package ru.practicum.shareit.server.booking;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookingPartitionMaintainerTest {
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final LocalDateTime month = LocalDateTime.now()
+            .with(TemporalAdjusters.firstDayOfMonth())
+            .truncatedTo(ChronoUnit.DAYS);
+
+    @Test
+    void maintainWhenArchiveTablespaceIsBlank() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(true);
+
+        new BookingPartitionMaintainer(jdbcTemplate, 3, 12, "").maintain();
+
+        for (int i = 0; i <= 3; i++) {
+            verify(jdbcTemplate, times(1))
+                    .queryForObject("select create_booking_partition(?)", Boolean.class, month.plusMonths(i));
+        }
+        verify(jdbcTemplate, never()).queryForObject(anyString(), eq(Integer.class), any(Object[].class));
+    }
+
+    @Test
+    void maintainWhenArchiveTablespaceIsSet() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), any(Object[].class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(2);
+
+        new BookingPartitionMaintainer(jdbcTemplate, 1, 12, "archive").maintain();
+
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Boolean.class), any(Object[].class));
+        verify(jdbcTemplate, times(1)).queryForObject("select archive_booking_partitions(?, ?)", Integer.class,
+                month.minusMonths(12), "archive");
+    }
+}
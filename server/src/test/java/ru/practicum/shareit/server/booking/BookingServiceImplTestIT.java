@@ -1,36 +1,64 @@
 package ru.practicum.shareit.server.booking;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalDto;
+import ru.practicum.shareit.server.booking.dto.BookingApprovalResultDto;
 import ru.practicum.shareit.server.booking.dto.BookingDto;
+import ru.practicum.shareit.server.booking.dto.BookingSummaryDto;
 import ru.practicum.shareit.server.booking.dto.NewBookingDto;
+import ru.practicum.shareit.server.config.MetricsConfig;
+import ru.practicum.shareit.server.exception.ConditionsNotMetException;
 import ru.practicum.shareit.server.exception.InvalidRequestException;
 import ru.practicum.shareit.server.exception.NotFoundException;
 import ru.practicum.shareit.server.item.Item;
 import ru.practicum.shareit.server.item.ItemRepository;
+import ru.practicum.shareit.server.item.dto.FreeSlotDto;
 import ru.practicum.shareit.server.user.User;
 import ru.practicum.shareit.server.user.UserRepository;
 
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 class BookingServiceImplTestIT {
     private final BookingService bookingService;
+    private final BookingCalendar bookingCalendar;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
     private User owner;
     private User booker;
     private User booker2;
@@ -93,6 +121,60 @@ class BookingServiceImplTestIT {
         assertEquals(bookingDto.getItem().getName(), item.getName());
     }
 
+    @Test
+    @SneakyThrows
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void createWhenConcurrentBookingsForSameItemThenNoOverlaps() {
+        int threads = 16;
+        int attempts = 20;
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        LocalDateTime from = end1.plusDays(1).truncatedTo(ChronoUnit.MINUTES);
+        try {
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        go.await();
+                        int booked = 0;
+                        for (int j = 0; j < attempts; j++) {
+                            LocalDateTime start = from.plusMinutes(ThreadLocalRandom.current().nextInt(120));
+                            try {
+                                bookingService.create(booker.getId(), new NewBookingDto(start,
+                                        start.plusMinutes(1 + ThreadLocalRandom.current().nextInt(30)),
+                                        item.getId()));
+                                booked++;
+                            } catch (InvalidRequestException e) {
+                                // the item is busy at that time
+                            }
+                        }
+                        return booked;
+                    }));
+                }
+                go.countDown();
+            }
+            int booked = 0;
+            for (Future<Integer> future : futures) {
+                booked += future.get();
+            }
+
+            List<Booking> bookings = new ArrayList<>();
+            bookingRepository.findAll(QBooking.booking.item.id.eq(item.getId())
+                    .and(QBooking.booking.start.goe(from))).forEach(bookings::add);
+            assertTrue(booked > 0);
+            assertEquals(booked, bookings.size());
+            for (Booking first : bookings) {
+                for (Booking second : bookings) {
+                    assertTrue(first == second || !first.getEnd().isAfter(second.getStart())
+                            || !second.getEnd().isAfter(first.getStart()));
+                }
+            }
+        } finally {
+            bookingRepository.deleteAll(bookingRepository.findAll(QBooking.booking.item.id.eq(item.getId())));
+            itemRepository.deleteById(item.getId());
+            userRepository.deleteAllById(List.of(owner.getId(), booker.getId(), booker2.getId()));
+        }
+    }
+
     @Test
     void createBookingWhenBookerIsMissing() {
         NotFoundException exception = assertThrows(NotFoundException.class,
@@ -140,6 +222,18 @@ class BookingServiceImplTestIT {
         assertEquals(exception.getMessage(), String.format("Item with id = %d is busy", item.getId()));
     }
 
+    @Test
+    void createBookingWhenTimeCoversExistingBooking() {
+        newBookingDto.setStart(start1.minusHours(1));
+        newBookingDto.setEnd(end1.plusHours(1));
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> bookingService.create(booker.getId(), newBookingDto));
+
+        assertNotNull(exception);
+        assertEquals(exception.getMessage(), String.format("Item with id = %d is busy", item.getId()));
+    }
+
     @Test
     void updateWhenAllValid() {
         BookingDto bookingDto = bookingService.update(booking.getId(), owner.getId(), Boolean.FALSE);
@@ -178,6 +272,271 @@ class BookingServiceImplTestIT {
     }
 
 
+    @Test
+    void updateWaitingStatusWhenVersionIsStale() {
+        Long version = bookingRepository.findById(booking.getId()).orElseThrow().getVersion();
+        Statistics statistics = clearAndGetStatistics();
+
+        assertEquals(0, bookingRepository.updateWaitingStatus(booking.getId(), version + 1, owner.getId(), Status.APPROVED));
+        assertEquals(0, bookingRepository.updateWaitingStatus(booking.getId(), version, booker.getId(), Status.APPROVED));
+        assertEquals(1, bookingRepository.updateWaitingStatus(booking.getId(), version, owner.getId(), Status.APPROVED));
+        assertEquals(0, bookingRepository.updateWaitingStatus(booking.getId(), version, owner.getId(), Status.REJECTED));
+        assertEquals(4, statistics.getPrepareStatementCount());
+
+        Booking updated = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertEquals(Status.APPROVED, updated.getStatus());
+        assertEquals(version + 1, updated.getVersion());
+    }
+
+    @Test
+    @SneakyThrows
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateWhenConcurrentApprovalsThenOneTransition() {
+        int threads = 16;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Status>> futures = new ArrayList<>();
+        try {
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int i = 0; i < threads; i++) {
+                    boolean approved = i % 2 == 0;
+                    futures.add(executor.submit(() -> {
+                        ready.countDown();
+                        go.await();
+                        try {
+                            return bookingService.update(booking.getId(), owner.getId(), approved).getStatus();
+                        } catch (ConditionsNotMetException | InvalidRequestException e) {
+                            return null;
+                        }
+                    }));
+                }
+                ready.await();
+                go.countDown();
+            }
+            List<Status> transitions = new ArrayList<>();
+            for (Future<Status> future : futures) {
+                transitions.add(future.get());
+            }
+
+            List<Status> succeeded = transitions.stream().filter(Objects::nonNull).toList();
+            Booking updated = bookingRepository.findById(booking.getId()).orElseThrow();
+            assertEquals(1, succeeded.size());
+            assertEquals(succeeded.getFirst(), updated.getStatus());
+            assertEquals(1L, updated.getVersion());
+        } finally {
+            bookingRepository.deleteById(booking.getId());
+            itemRepository.deleteById(item.getId());
+            userRepository.deleteAllById(List.of(owner.getId(), booker.getId(), booker2.getId()));
+        }
+    }
+
+    @Test
+    void updateAllWhenSomeBookingsNotValidThenOneUpdateStatement() {
+        Booking rejectedBooking = new Booking();
+        rejectedBooking.setStart(start1.plusDays(1));
+        rejectedBooking.setEnd(end1.plusDays(1));
+        rejectedBooking.setItem(item);
+        rejectedBooking.setBooker(booker);
+        bookingRepository.save(rejectedBooking);
+
+        Booking approvedBooking = new Booking();
+        approvedBooking.setStart(start1.plusDays(2));
+        approvedBooking.setEnd(end1.plusDays(2));
+        approvedBooking.setItem(item);
+        approvedBooking.setBooker(booker);
+        approvedBooking.setStatus(Status.APPROVED);
+        bookingRepository.save(approvedBooking);
+
+        Item otherItem = new Item();
+        otherItem.setName("other");
+        otherItem.setDescription("description");
+        otherItem.setOwner(booker);
+        otherItem.setAvailable(Boolean.TRUE);
+        otherItem = itemRepository.save(otherItem);
+
+        Booking otherBooking = new Booking();
+        otherBooking.setStart(start1);
+        otherBooking.setEnd(end1);
+        otherBooking.setItem(otherItem);
+        otherBooking.setBooker(booker2);
+        bookingRepository.save(otherBooking);
+        Statistics statistics = clearAndGetStatistics();
+
+        List<BookingApprovalResultDto> results = bookingService.updateAll(owner.getId(), List.of(
+                new BookingApprovalDto(booking.getId(), Boolean.TRUE),
+                new BookingApprovalDto(rejectedBooking.getId(), Boolean.FALSE),
+                new BookingApprovalDto(approvedBooking.getId(), Boolean.FALSE),
+                new BookingApprovalDto(otherBooking.getId(), Boolean.TRUE),
+                new BookingApprovalDto(Long.MAX_VALUE, Boolean.TRUE),
+                new BookingApprovalDto(booking.getId(), Boolean.FALSE)));
+
+        assertEquals(List.of(
+                new BookingApprovalResultDto(booking.getId(), Status.APPROVED, null),
+                new BookingApprovalResultDto(rejectedBooking.getId(), Status.REJECTED, null),
+                new BookingApprovalResultDto(approvedBooking.getId(), null, "Status must be WAITING"),
+                new BookingApprovalResultDto(otherBooking.getId(), null, "Only owner can change status"),
+                new BookingApprovalResultDto(Long.MAX_VALUE, null,
+                        String.format("Booking with id = %d not found", Long.MAX_VALUE)),
+                new BookingApprovalResultDto(booking.getId(), null,
+                        String.format("Booking with id = %d is duplicated", booking.getId()))), results);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(Status.APPROVED, bookingRepository.findById(booking.getId()).orElseThrow().getStatus());
+        assertEquals(Status.REJECTED, bookingRepository.findById(rejectedBooking.getId()).orElseThrow().getStatus());
+        assertEquals(Status.APPROVED, bookingRepository.findById(approvedBooking.getId()).orElseThrow().getStatus());
+        assertEquals(Status.WAITING, bookingRepository.findById(otherBooking.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void updateAllWhenUserIsMissing() {
+        List<BookingApprovalDto> approvals = List.of(new BookingApprovalDto(booking.getId(), Boolean.TRUE));
+
+        assertThrows(NotFoundException.class, () -> bookingService.updateAll(Long.MAX_VALUE, approvals));
+        assertEquals(Status.WAITING, bookingRepository.findById(booking.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getAvailabilityWhenBookingCreatedAndRejectedThenCalendarUpdated() {
+        Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+        LocalDateTime from = stored.getStart().minusHours(2);
+        LocalDateTime to = stored.getEnd().plusHours(5);
+        LocalDateTime start = stored.getEnd().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        try {
+            assertEquals(List.of(new FreeSlotDto(from, stored.getStart()), new FreeSlotDto(stored.getEnd(), to)),
+                    bookingCalendar.getAvailability(item.getId(), from, to).getFreeSlots());
+
+            BookingDto created = bookingService.create(booker.getId(),
+                    new NewBookingDto(start, start.plusHours(1), item.getId()));
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.clear();
+            assertEquals(List.of(new FreeSlotDto(from, stored.getStart()),
+                            new FreeSlotDto(stored.getEnd(), start),
+                            new FreeSlotDto(start.plusHours(1), to)),
+                    bookingCalendar.getAvailability(item.getId(), from, to).getFreeSlots());
+            assertEquals(0, statistics.getPrepareStatementCount());
+
+            bookingService.update(created.getId(), owner.getId(), false);
+            assertEquals(List.of(new FreeSlotDto(from, stored.getStart()), new FreeSlotDto(stored.getEnd(), to)),
+                    bookingCalendar.getAvailability(item.getId(), from, to).getFreeSlots());
+        } finally {
+            bookingRepository.deleteAll(bookingRepository.findAll(QBooking.booking.item.id.eq(item.getId())));
+            itemRepository.deleteById(item.getId());
+            userRepository.deleteAllById(List.of(owner.getId(), booker.getId(), booker2.getId()));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getAvailabilityWhenSlotReturnedThenSlotCanBeBooked() {
+        Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+        LocalDateTime from = stored.getStart().minusHours(2);
+        LocalDateTime to = stored.getEnd().plusHours(5);
+        LocalDateTime start = stored.getEnd().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+        try {
+            BookingDto rejected = bookingService.create(booker.getId(),
+                    new NewBookingDto(start, start.plusHours(1), item.getId()));
+            bookingService.update(rejected.getId(), owner.getId(), false);
+            FreeSlotDto slot = bookingCalendar.getAvailability(item.getId(), from, to).getFreeSlots().get(1);
+            assertEquals(new FreeSlotDto(stored.getEnd(), to), slot);
+
+            bookingService.create(booker2.getId(), new NewBookingDto(slot.getStart(), slot.getEnd(), item.getId()));
+
+            assertEquals(List.of(new FreeSlotDto(from, stored.getStart())),
+                    bookingCalendar.getAvailability(item.getId(), from, to).getFreeSlots());
+            assertThrows(InvalidRequestException.class, () -> bookingService.create(booker.getId(),
+                    new NewBookingDto(start, start.plusHours(1), item.getId())));
+        } finally {
+            bookingRepository.deleteAll(bookingRepository.findAll(QBooking.booking.item.id.eq(item.getId())));
+            itemRepository.deleteById(item.getId());
+            userRepository.deleteAllById(List.of(owner.getId(), booker.getId(), booker2.getId()));
+        }
+    }
+
+    @Test
+    void getAvailabilityWhenItemIsMissing() {
+        LocalDateTime from = LocalDateTime.now().plusHours(1);
+        assertThrows(NotFoundException.class,
+                () -> bookingCalendar.getAvailability(Long.MAX_VALUE, from, from.plusHours(1)));
+    }
+
+    @Test
+    void getSummaryWhenBookingsInAllStatesThenOneCountStatement() {
+        Booking pastBooking = new Booking();
+        pastBooking.setStart(start1.minusDays(3));
+        pastBooking.setEnd(start1.minusDays(2));
+        pastBooking.setItem(item);
+        pastBooking.setBooker(booker2);
+        pastBooking.setStatus(Status.REJECTED);
+        bookingRepository.save(pastBooking);
+        Booking currentBooking = new Booking();
+        currentBooking.setStart(LocalDateTime.now().minusHours(1));
+        currentBooking.setEnd(LocalDateTime.now().plusHours(1));
+        currentBooking.setItem(item);
+        currentBooking.setBooker(booker2);
+        currentBooking.setStatus(Status.APPROVED);
+        bookingRepository.save(currentBooking);
+        Statistics statistics = clearAndGetStatistics();
+
+        BookingSummaryDto summary = bookingService.getSummary(booker2.getId());
+
+        assertEquals(new BookingSummaryDto(3L, 1L, 1L, 1L, 1L, 1L), summary);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(summary, bookingService.getOwnerSummary(owner.getId()));
+        assertEquals(new BookingSummaryDto(0L, 0L, 0L, 0L, 0L, 0L), bookingService.getSummary(owner.getId()));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getSummaryWhenCachedThenBookingSavedEvicts() {
+        try {
+            assertEquals(0L, bookingService.getSummary(booker.getId()).getAll());
+            assertEquals(1L, bookingService.getOwnerSummary(owner.getId()).getAll());
+            Statistics statistics = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+            statistics.clear();
+            bookingService.getSummary(booker.getId());
+            bookingService.getOwnerSummary(owner.getId());
+            assertEquals(0, statistics.getPrepareStatementCount());
+
+            bookingService.create(booker.getId(), newBookingDto);
+
+            assertEquals(new BookingSummaryDto(1L, 0L, 0L, 1L, 1L, 0L), bookingService.getSummary(booker.getId()));
+            assertEquals(new BookingSummaryDto(2L, 0L, 0L, 2L, 2L, 0L),
+                    bookingService.getOwnerSummary(owner.getId()));
+        } finally {
+            bookingRepository.deleteAll(bookingRepository.findAll(QBooking.booking.item.id.eq(item.getId())));
+            itemRepository.deleteById(item.getId());
+            userRepository.deleteAllById(List.of(owner.getId(), booker.getId(), booker2.getId()));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getSummaryWhenReadOverlapsBookingSavedThenNotStale() {
+        try {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            BookingSummaryDto overlapped = transaction.execute(status -> {
+                BookingSummaryDto summary = bookingService.getSummary(booker.getId());
+                try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+                    executor.submit(() -> bookingService.create(booker.getId(), newBookingDto)).get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return summary;
+            });
+
+            assertEquals(0L, Objects.requireNonNull(overlapped).getAll());
+            assertEquals(new BookingSummaryDto(1L, 0L, 0L, 1L, 1L, 0L), bookingService.getSummary(booker.getId()));
+        } finally {
+            bookingRepository.deleteAll(bookingRepository.findAll(QBooking.booking.item.id.eq(item.getId())));
+            itemRepository.deleteById(item.getId());
+            userRepository.deleteAllById(List.of(owner.getId(), booker.getId(), booker2.getId()));
+        }
+    }
+
     @Test
     void getByIdWhenAllValid() {
         BookingDto bookingDto = bookingService.getById(booking.getId(), booker2.getId());
@@ -211,7 +570,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByStateWhenAllValidAndStateCurrent() {
-        List<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.CURRENT);
+        Window<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.CURRENT, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
@@ -219,7 +578,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByStateWhenAllValidAndStatePast() {
-        List<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.PAST);
+        Window<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.PAST, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
@@ -227,7 +586,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByStateWhenAllValidAndStateFuture() {
-        List<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.FUTURE);
+        Window<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.FUTURE, null, 20);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
@@ -235,7 +594,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByStateWhenAllValidAndStateWaiting() {
-        List<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.WAITING);
+        Window<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.WAITING, null, 20);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
@@ -243,7 +602,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByStateWhenAllValidAndStateRejected() {
-        List<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.REJECTED);
+        Window<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.REJECTED, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
@@ -251,15 +610,31 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByOwnerWhenAllValid() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.FUTURE);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.FUTURE, null, 20);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
     }
 
+    @Test
+    void getAllByOwnerWhenAllValidThenRecordTimerWithState() {
+        bookingService.getAllByOwner(owner.getId(), State.FUTURE, null, 20);
+
+        assertTrue(meterRegistry.get(MetricsConfig.BOOKING_QUERY_TIMER)
+                .tag("method", "getAllByOwner")
+                .tag("state", State.FUTURE.name())
+                .timer()
+                .count() > 0);
+        assertTrue(meterRegistry.get("spring.data.repository.invocations")
+                .tag("repository", "BookingRepository")
+                .tag("method", "findBookingDtos")
+                .timer()
+                .count() > 0);
+    }
+
     @Test
     void getAllByOwnerWhenOwnerDoesNotHasBookings() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(booker2.getId(), State.FUTURE);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(booker2.getId(), State.FUTURE, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
@@ -267,7 +642,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByOwnerWhenAllValidAndStateCurrent() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.CURRENT);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.CURRENT, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
@@ -275,7 +650,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByOwnerWhenAllValidAndStatePast() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.PAST);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.PAST, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
@@ -283,7 +658,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByOwnerWhenAllValidAndStateFuture() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.FUTURE);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.FUTURE, null, 20);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
@@ -291,7 +666,7 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByOwnerWhenAllValidAndStateWaiting() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.WAITING);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.WAITING, null, 20);
 
         assertNotNull(bookings);
         assertEquals(1, bookings.size());
@@ -299,9 +674,112 @@ class BookingServiceImplTestIT {
 
     @Test
     void getAllByOwnerWhenAllValidAndStateRejected() {
-        List<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.REJECTED);
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.REJECTED, null, 20);
 
         assertNotNull(bookings);
         assertEquals(0, bookings.size());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllByStateWhenPagedByCursor() {
+        for (int i = 0; i < 4; i++) {
+            Booking pagedBooking = new Booking();
+            pagedBooking.setStart(start1.truncatedTo(ChronoUnit.SECONDS).plusDays(i / 2));
+            pagedBooking.setEnd(end1.plusDays(i / 2));
+            pagedBooking.setItem(item);
+            pagedBooking.setBooker(booker2);
+            bookingRepository.save(pagedBooking);
+        }
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            Window<BookingDto> page = bookingService.getAllByState(booker2.getId(), State.ALL, cursor, 2);
+            assertTrue(page.size() <= 2);
+            page.forEach(bookingDto -> ids.add(bookingDto.getId()));
+            assertTrue(ids.size() <= 5, ids::toString);
+            cursor = BookingCursor.next(page);
+        } while (cursor != null);
+
+        List<Long> expected = bookingService.getAllByState(booker2.getId(), State.ALL, null, 20)
+                .map(BookingDto::getId)
+                .getContent();
+        assertEquals(5, ids.size());
+        assertEquals(expected, ids);
+    }
+
+    @Test
+    void getAllByOwnerWhenCursorIsNotValid() {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> bookingService.getAllByOwner(owner.getId(), State.ALL, "not-a-cursor", 20));
+
+        assertEquals(exception.getMessage(), "Cursor not-a-cursor is not valid");
+    }
+
+    @Test
+    void getAllByStateWhenManyBookingsThenTwoStatements() {
+        for (int i = 0; i < 3; i++) {
+            User otherOwner = new User();
+            otherOwner.setName("owner" + i);
+            otherOwner.setEmail("owner" + i + "@email.com");
+            otherOwner = userRepository.save(otherOwner);
+
+            Item otherItem = new Item();
+            otherItem.setName("item" + i);
+            otherItem.setDescription("description");
+            otherItem.setOwner(otherOwner);
+            otherItem.setAvailable(Boolean.TRUE);
+            otherItem = itemRepository.save(otherItem);
+
+            Booking otherBooking = new Booking();
+            otherBooking.setStart(start1.plusDays(i + 1));
+            otherBooking.setEnd(end1.plusDays(i + 1));
+            otherBooking.setItem(otherItem);
+            otherBooking.setBooker(booker2);
+            bookingRepository.save(otherBooking);
+        }
+        Statistics statistics = clearAndGetStatistics();
+
+        Window<BookingDto> bookings = bookingService.getAllByState(booker2.getId(), State.ALL, null, 20);
+
+        assertEquals(4, bookings.size());
+        bookings.forEach(bookingDto -> assertNotNull(bookingDto.getItem().getName()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getAllByOwnerWhenManyBookersThenTwoStatements() {
+        for (int i = 0; i < 3; i++) {
+            User otherBooker = new User();
+            otherBooker.setName("booker" + i);
+            otherBooker.setEmail("other.booker" + i + "@email.com");
+            otherBooker = userRepository.save(otherBooker);
+
+            Booking otherBooking = new Booking();
+            otherBooking.setStart(start1.plusDays(i + 1));
+            otherBooking.setEnd(end1.plusDays(i + 1));
+            otherBooking.setItem(item);
+            otherBooking.setBooker(otherBooker);
+            bookingRepository.save(otherBooking);
+        }
+        Statistics statistics = clearAndGetStatistics();
+
+        Window<BookingDto> bookings = bookingService.getAllByOwner(owner.getId(), State.FUTURE, null, 20);
+
+        assertEquals(4, bookings.size());
+        bookings.forEach(bookingDto -> assertNotNull(bookingDto.getBooker().getName()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    private Statistics clearAndGetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
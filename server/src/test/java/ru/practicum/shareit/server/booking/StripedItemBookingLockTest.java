@@ -0,0 +1,55 @@
+package ru.practicum.shareit.server.booking;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedItemBookingLockTest {
+    private final StripedItemBookingLock itemBookingLock = new StripedItemBookingLock();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void lockForTransactionWhenNoTransaction() {
+        assertThrows(IllegalStateException.class, () -> itemBookingLock.lockForTransaction(1L));
+    }
+
+    @Test
+    void lockForTransactionThenHeldUntilCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        itemBookingLock.lockForTransaction(1L);
+
+        ReentrantLock lock = itemBookingLock.stripe(1L);
+        assertTrue(lock.isHeldByCurrentThread());
+        assertFalse(CompletableFuture.supplyAsync(lock::tryLock).join());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.getFirst().afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertFalse(lock.isLocked());
+    }
+
+    @Test
+    void stripeWhenSameItemThenSameLock() {
+        assertSame(itemBookingLock.stripe(42L), itemBookingLock.stripe(42L));
+        assertFalse(itemBookingLock.stripe(1L) == itemBookingLock.stripe(2L));
+    }
+}
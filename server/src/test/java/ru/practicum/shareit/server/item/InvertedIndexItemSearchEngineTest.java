@@ -0,0 +1,136 @@
+package ru.practicum.shareit.server.item;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.server.user.User;
+import ru.practicum.shareit.server.user.UserDeletedEvent;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InvertedIndexItemSearchEngineTest {
+    private ItemRepository itemRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        owner = new User(1L, "owner", "owner@email.com");
+        Page<Item> items = new PageImpl<>(List.of(
+                new Item(1L, "Hammer", "heavy drill bits included", owner, null, Boolean.TRUE),
+                new Item(2L, "Drill", "cordless", owner, null, Boolean.TRUE),
+                new Item(3L, "Old drill", "broken", owner, null, Boolean.FALSE),
+                new Item(4L, "Power DRILL", "with case", owner, null, Boolean.TRUE)
+        ));
+        when(itemRepository.findAll(any(Pageable.class))).thenReturn(items);
+    }
+
+    @Test
+    void searchWhenNameMatchesRankFirst() {
+        InvertedIndexItemSearchEngine engine = new InvertedIndexItemSearchEngine(itemRepository, meterRegistry, 1 << 20);
+        engine.rebuild();
+
+        List<Item> firstPage = engine.search("drill", 0, 2);
+        List<Item> secondPage = engine.search("drill", 2, 2);
+
+        assertEquals(List.of(2L, 4L), firstPage.stream().map(Item::getId).toList());
+        assertEquals(List.of(1L), secondPage.stream().map(Item::getId).toList());
+        assertEquals(0, engine.search("drills", 0, 10).size());
+        assertEquals(3.0, meterRegistry.get("shareit.search.index.items").gauge().value());
+        assertEquals(1, meterRegistry.get("shareit.search.index.rebuild").timer().count());
+        verify(itemRepository, never()).searchByLike(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchWhenItemsChanged() {
+        InvertedIndexItemSearchEngine engine = new InvertedIndexItemSearchEngine(itemRepository, meterRegistry, 1 << 20);
+        engine.rebuild();
+
+        engine.onItemSaved(new ItemSavedEvent(2L, 1L, "Drill", "cordless", Boolean.FALSE));
+        engine.onItemSaved(new ItemSavedEvent(5L, 2L, "Saw", "goes with a drill", Boolean.TRUE));
+
+        assertEquals(List.of(4L, 1L, 5L), engine.search("drill", 0, 10).stream().map(Item::getId).toList());
+
+        engine.onUserDeleted(new UserDeletedEvent(1L));
+
+        assertEquals(List.of(5L), engine.search("drill", 0, 10).stream().map(Item::getId).toList());
+    }
+
+    @Test
+    @SneakyThrows
+    void searchWhenRebuildingThenFallsBackAndReplaysEvents() {
+        InvertedIndexItemSearchEngine engine = new InvertedIndexItemSearchEngine(itemRepository, meterRegistry, 1 << 20);
+        Item fromDatabase = new Item(6L, "Drill press", "bench", owner, null, Boolean.TRUE);
+        when(itemRepository.searchByLike(anyString(), anyInt(), anyInt())).thenReturn(List.of(fromDatabase));
+        when(itemRepository.findAll(any(Pageable.class))).thenAnswer(invocation -> {
+            List<Item> found = CompletableFuture.supplyAsync(() -> engine.search("drill", 0, 10))
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals(List.of(fromDatabase), found);
+            engine.onItemSaved(new ItemSavedEvent(2L, 1L, "Drill", "cordless", Boolean.FALSE));
+            engine.onItemSaved(new ItemSavedEvent(5L, 2L, "Saw", "goes with a drill", Boolean.TRUE));
+            return new PageImpl<>(List.of(
+                    new Item(1L, "Hammer", "heavy drill bits included", owner, null, Boolean.TRUE),
+                    new Item(2L, "Drill", "cordless", owner, null, Boolean.TRUE)));
+        });
+
+        engine.rebuild();
+
+        assertEquals(List.of(1L, 5L), engine.search("drill", 0, 10).stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void searchWhenMemoryCapExceeded() {
+        when(itemRepository.searchByLike(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+        InvertedIndexItemSearchEngine engine = new InvertedIndexItemSearchEngine(itemRepository, meterRegistry, 256);
+        engine.rebuild();
+
+        assertTrue(engine.search("drill", 0, 10).isEmpty());
+        assertEquals(0.0, meterRegistry.get("shareit.search.index.bytes").gauge().value());
+        verify(itemRepository, times(1)).searchByLike(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void retryWhenMemoryCapExceededThenIndexRebuilt() {
+        InvertedIndexItemSearchEngine engine = new InvertedIndexItemSearchEngine(itemRepository, meterRegistry, 512);
+        engine.rebuild();
+        when(itemRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+                new Item(2L, "Drill", "cordless", owner, null, Boolean.TRUE))));
+
+        engine.retry();
+        engine.retry();
+
+        assertEquals(List.of(2L), engine.search("drill", 0, 10).stream().map(Item::getId).toList());
+        assertEquals(2, meterRegistry.get("shareit.search.index.rebuild").timer().count());
+        verify(itemRepository, never()).searchByLike(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void searchWhenTextShorterThanGram() {
+        when(itemRepository.searchByLike(anyString(), anyInt(), anyInt())).thenReturn(List.of());
+        InvertedIndexItemSearchEngine engine = new InvertedIndexItemSearchEngine(itemRepository, meterRegistry, 1 << 20);
+        engine.rebuild();
+
+        engine.search("dr", 0, 10);
+
+        verify(itemRepository, times(1)).searchByLike(anyString(), anyInt(), anyInt());
+    }
+}
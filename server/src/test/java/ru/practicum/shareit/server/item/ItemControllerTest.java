@@ -13,7 +13,12 @@ import ru.practicum.shareit.server.booking.Status;
 import ru.practicum.shareit.server.booking.dto.BookingForAllItemDto;
 import ru.practicum.shareit.server.comment.dto.CommentDto;
 import ru.practicum.shareit.server.comment.dto.NewCommentDto;
+import ru.practicum.shareit.server.exception.NotFoundException;
+import ru.practicum.shareit.server.item.dto.BulkImportDto;
+import ru.practicum.shareit.server.item.dto.BulkItemResultDto;
+import ru.practicum.shareit.server.item.dto.FreeSlotDto;
 import ru.practicum.shareit.server.item.dto.ItemAllDto;
+import ru.practicum.shareit.server.item.dto.ItemAvailabilityDto;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.item.dto.NewItemDto;
 import ru.practicum.shareit.server.item.dto.UpdateItemDto;
@@ -28,6 +33,7 @@ import java.util.Set;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
@@ -55,6 +61,9 @@ class ItemControllerTest {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private ItemImporter itemImporter;
+
     @BeforeEach
     void setup() {
         ldt1 = LocalDateTime.of(2020, Month.AUGUST, 10, 10, 10, 10);
@@ -102,6 +111,66 @@ class ItemControllerTest {
         verify(itemService, times(1)).create(anyLong(), any(NewItemDto.class));
     }
 
+    @Test
+    @SneakyThrows
+    void createItems() {
+        BulkImportDto bulkImportDto = new BulkImportDto(1, 1, List.of(
+                new BulkItemResultDto(1, 1L, null),
+                new BulkItemResultDto(2, null, "name: must not be blank")), true);
+
+        when(itemImporter.importItems(anyLong(), any())).thenReturn(bulkImportDto);
+
+        mvc.perform(post(API_PREFIX + "/bulk")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header("X-Sharer-User-Id", 1L)
+                        .content("""
+                                {"line":1,"name":"drill","description":"drill","available":true}
+                                {"line":2,"error":"name: must not be blank"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.failed", is(1)))
+                .andExpect(jsonPath("$.results", hasSize(2)))
+                .andExpect(jsonPath("$.results[0].id", is(1L), Long.class))
+                .andExpect(jsonPath("$.results[1].error", is("name: must not be blank")))
+                .andExpect(jsonPath("$.completed", is(true)));
+        verify(itemImporter, times(1)).importItems(anyLong(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void getAvailability() {
+        ItemAvailabilityDto availabilityDto = new ItemAvailabilityDto(1L, ldt1, ldt2.plusDays(1), List.of(
+                new FreeSlotDto(ldt1, ldt1.plusSeconds(30)),
+                new FreeSlotDto(ldt2, ldt2.plusDays(1))));
+
+        when(itemService.getAvailability(1L, 1L, ldt1, ldt2.plusDays(1))).thenReturn(availabilityDto);
+
+        mvc.perform(get(API_PREFIX + "/1/availability")
+                        .header("X-Sharer-User-Id", 1L)
+                        .queryParam("from", ldt1.toString())
+                        .queryParam("to", ldt2.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itemId", is(1L), Long.class))
+                .andExpect(jsonPath("$.freeSlots", hasSize(2)))
+                .andExpect(jsonPath("$.freeSlots[0].end", is(ldt1.plusSeconds(30).toString())))
+                .andExpect(jsonPath("$.freeSlots[1].start", is(ldt2.toString())));
+        verify(itemService, times(1)).getAvailability(1L, 1L, ldt1, ldt2.plusDays(1));
+    }
+
+    @Test
+    @SneakyThrows
+    void getAvailabilityWhenUserNotFound() {
+        when(itemService.getAvailability(1L, 99L, ldt1, ldt2))
+                .thenThrow(new NotFoundException("User with id = 99 not found"));
+
+        mvc.perform(get(API_PREFIX + "/1/availability")
+                        .header("X-Sharer-User-Id", 99L)
+                        .queryParam("from", ldt1.toString())
+                        .queryParam("to", ldt2.toString()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @SneakyThrows
     void createComment() {
@@ -205,16 +274,18 @@ class ItemControllerTest {
     void getBySearch() {
         ItemDto itemDto = new ItemDto(1L, "name", "description", Boolean.TRUE);
 
-        when(itemService.getBySearch(anyLong(), anyString())).thenReturn(List.of(itemDto));
+        when(itemService.getBySearch(anyLong(), anyString(), anyInt(), anyInt())).thenReturn(List.of(itemDto));
 
         mvc.perform(get(API_PREFIX + "/search")
                         .queryParam("text", "findByName")
+                        .queryParam("from", "10")
+                        .queryParam("size", "5")
                         .header("X-Sharer-User-Id", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id", is(itemDto.getId()), Long.class))
                 .andExpect(jsonPath("$[0].name", is(itemDto.getName())))
                 .andExpect(jsonPath("$[0].description", is(itemDto.getDescription())))
                 .andExpect(jsonPath("$[0].available", is(itemDto.getAvailable())));
-        verify(itemService, times(1)).getBySearch(anyLong(), anyString());
+        verify(itemService, times(1)).getBySearch(1L, "findByName", 10, 5);
     }
 }
\ No newline at end of file
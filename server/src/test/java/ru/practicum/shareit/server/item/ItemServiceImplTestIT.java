@@ -1,6 +1,7 @@
 package ru.practicum.shareit.server.item;
 
 import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +15,8 @@ import ru.practicum.shareit.server.comment.dto.NewCommentDto;
 import ru.practicum.shareit.server.exception.ConditionsNotMetException;
 import ru.practicum.shareit.server.exception.InvalidRequestException;
 import ru.practicum.shareit.server.exception.NotFoundException;
+import ru.practicum.shareit.server.item.dto.BulkImportDto;
+import ru.practicum.shareit.server.item.dto.BulkItemResultDto;
 import ru.practicum.shareit.server.item.dto.ItemAllDto;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.item.dto.NewItemDto;
@@ -23,12 +26,22 @@ import ru.practicum.shareit.server.request.ItemRequestRepository;
 import ru.practicum.shareit.server.user.User;
 import ru.practicum.shareit.server.user.UserRepository;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
@@ -40,6 +53,7 @@ class ItemServiceImplTestIT {
     private final ItemRequestRepository itemRequestRepository;
     private final ItemRepository itemRepository;
     private final ItemService itemService;
+    private final ItemImporter itemImporter;
     private NewItemDto newItemDto;
     private User owner;
     private User user;
@@ -102,6 +116,93 @@ class ItemServiceImplTestIT {
         assertEquals(exception.getMessage(), String.format("User with id = %d not found", Long.MAX_VALUE));
     }
 
+    @Test
+    @SneakyThrows
+    void importItemsWhenSomeLinesFailed() {
+        String ndjson = String.format("""
+                {"line":1,"name":"drill","description":"cordless drill","available":true,"requestId":%d}
+                {"line":2,"error":"name: must not be blank"}
+                {"line":3,"name":"saw","description":"hand saw","available":false,"requestId":%d}
+                {"line":4,"name":"hammer","description":"claw hammer","available":true}
+                """, itemRequest.getId(), itemRequest.getId() + 100);
+
+        BulkImportDto bulkImportDto = itemImporter.importItems(owner.getId(),
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, bulkImportDto.getCreated());
+        assertEquals(2, bulkImportDto.getFailed());
+        assertEquals(List.of(1, 2, 3, 4), bulkImportDto.getResults().stream().map(BulkItemResultDto::getLine).toList());
+        assertNotNull(bulkImportDto.getResults().get(0).getId());
+        assertEquals("name: must not be blank", bulkImportDto.getResults().get(1).getError());
+        assertNull(bulkImportDto.getResults().get(2).getId());
+        assertEquals(String.format("ItemRequest with id = %d not found", itemRequest.getId() + 100),
+                bulkImportDto.getResults().get(2).getError());
+        Item saved = itemRepository.findById(bulkImportDto.getResults().get(0).getId()).orElseThrow();
+        assertEquals("drill", saved.getName());
+        assertEquals(itemRequest.getId(), saved.getItemRequest().getId());
+        assertNotNull(bulkImportDto.getResults().get(3).getId());
+    }
+
+    @Test
+    void importItemsWhenLineIsNotJson() {
+        assertThrows(InvalidRequestException.class, () -> itemImporter.importItems(owner.getId(),
+                new ByteArrayInputStream("not json".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    @SneakyThrows
+    void importItemsWhenLineIsNotJsonAfterSavedChunkThenReturnsSavedLines() {
+        int before = itemRepository.findAllByOwnerId(owner.getId()).size();
+        StringBuilder ndjson = new StringBuilder();
+        for (int line = 1; line <= ItemImporter.CHUNK_SIZE + 1; line++) {
+            ndjson.append(String.format(
+                    "{\"line\":%d,\"name\":\"drill\",\"description\":\"drill\",\"available\":true}%n", line));
+        }
+        ndjson.append("not json\n");
+
+        BulkImportDto bulkImportDto = itemImporter.importItems(owner.getId(),
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(ItemImporter.CHUNK_SIZE + 1, bulkImportDto.getCreated());
+        assertEquals(1, bulkImportDto.getFailed());
+        assertFalse(bulkImportDto.getCompleted());
+        BulkItemResultDto failed = bulkImportDto.getResults().getLast();
+        assertEquals(ItemImporter.CHUNK_SIZE + 2, failed.getLine());
+        assertNull(failed.getId());
+        assertNotNull(failed.getError());
+        assertEquals(before + ItemImporter.CHUNK_SIZE + 1, itemRepository.findAllByOwnerId(owner.getId()).size());
+    }
+
+    @Test
+    @SneakyThrows
+    void importItemsWhenBodyBreaksAfterSavedChunkThenReturnsSavedLines() {
+        StringBuilder ndjson = new StringBuilder();
+        for (int line = 1; line <= ItemImporter.CHUNK_SIZE; line++) {
+            ndjson.append(String.format(
+                    "{\"line\":%d,\"name\":\"drill\",\"description\":\"drill\",\"available\":true}%n", line));
+        }
+        InputStream broken = new SequenceInputStream(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+
+        BulkImportDto bulkImportDto = itemImporter.importItems(owner.getId(), broken);
+
+        assertEquals(ItemImporter.CHUNK_SIZE, bulkImportDto.getCreated());
+        assertFalse(bulkImportDto.getCompleted());
+        assertEquals(ItemImporter.CHUNK_SIZE + 1, bulkImportDto.getResults().getLast().getLine());
+    }
+
+    @Test
+    void importItemsWhenUserIsMissing() {
+        assertThrows(NotFoundException.class, () -> itemImporter.importItems(-1L,
+                new ByteArrayInputStream(new byte[0])));
+    }
+
     @Test
     void createCommentWhenAllValid() {
         NewCommentDto newCommentDto = new NewCommentDto("Good item");
@@ -215,6 +316,42 @@ class ItemServiceImplTestIT {
         assertEquals(1, items.size());
     }
 
+    @Test
+    void getAllItemsByOwnerIdWhenSeveralItemsHaveBookings() {
+        Item secondItem = new Item();
+        secondItem.setName("second");
+        secondItem.setDescription("description");
+        secondItem.setOwner(owner);
+        secondItem.setAvailable(Boolean.TRUE);
+        secondItem = itemRepository.save(secondItem);
+        Item otherOwnerItem = new Item();
+        otherOwnerItem.setName("other");
+        otherOwnerItem.setDescription("description");
+        otherOwnerItem.setOwner(user);
+        otherOwnerItem.setAvailable(Boolean.TRUE);
+        otherOwnerItem = itemRepository.save(otherOwnerItem);
+        LocalDateTime now = LocalDateTime.now();
+        saveBooking(otherOwnerItem, now.plusMinutes(1), now.plusMinutes(2));
+        Booking olderLast = saveBooking(item, now.minusDays(5), now.minusDays(4));
+        Booking next = saveBooking(item, now.plusDays(1), now.plusDays(2));
+        saveBooking(item, now.plusDays(3), now.plusDays(4));
+        Booking secondLast = saveBooking(secondItem, now.minusDays(3), now.minusHours(1));
+        saveBooking(secondItem, now.minusDays(6), now.minusDays(5));
+        Booking secondNext = saveBooking(secondItem, now.plusHours(1), now.plusHours(2));
+
+        Map<Long, ItemAllDto> items = itemService.getAllByUserId(owner.getId())
+                .stream()
+                .collect(Collectors.toMap(ItemAllDto::getId, Function.identity()));
+
+        assertEquals(2, items.size());
+        assertEquals(booking.getId(), items.get(item.getId()).getLastBooking().getId());
+        assertNotEquals(olderLast.getId(), items.get(item.getId()).getLastBooking().getId());
+        assertEquals(next.getId(), items.get(item.getId()).getNextBooking().getId());
+        assertEquals(secondLast.getId(), items.get(secondItem.getId()).getLastBooking().getId());
+        assertEquals(secondNext.getId(), items.get(secondItem.getId()).getNextBooking().getId());
+        assertEquals(user.getName(), items.get(secondItem.getId()).getNextBooking().getBooker().getName());
+    }
+
     @Test
     void getAllWhenItemsByUserIsNotOwner() {
         List<ItemAllDto> items = itemService.getAllByUserId(user.getId());
@@ -223,6 +360,76 @@ class ItemServiceImplTestIT {
         assertEquals(0, items.size());
     }
 
+    @Test
+    void getBySearchWhenNameMatchesRankFirst() {
+        Item byDescription = new Item();
+        byDescription.setName("drill");
+        byDescription.setDescription("no NAME on it");
+        byDescription.setOwner(owner);
+        byDescription.setAvailable(Boolean.TRUE);
+        byDescription = itemRepository.save(byDescription);
+
+        Item byName = new Item();
+        byName.setName("unnamed");
+        byName.setDescription("description");
+        byName.setOwner(owner);
+        byName.setAvailable(Boolean.TRUE);
+        byName = itemRepository.save(byName);
+
+        List<ItemDto> firstPage = itemService.getBySearch(user.getId(), "name", 0, 2);
+        List<ItemDto> secondPage = itemService.getBySearch(user.getId(), "name", 2, 2);
+
+        assertEquals(List.of(item.getId(), byName.getId()), firstPage.stream().map(ItemDto::getId).toList());
+        assertEquals(List.of(byDescription.getId()), secondPage.stream().map(ItemDto::getId).toList());
+    }
+
+    @Test
+    void getBySearchWhenFromNotMultipleOfSizeThenSkipsFromRows() {
+        Item byName = new Item();
+        byName.setName("unnamed");
+        byName.setDescription("description");
+        byName.setOwner(owner);
+        byName.setAvailable(Boolean.TRUE);
+        byName = itemRepository.save(byName);
+
+        Item byDescription = new Item();
+        byDescription.setName("drill");
+        byDescription.setDescription("no NAME on it");
+        byDescription.setOwner(owner);
+        byDescription.setAvailable(Boolean.TRUE);
+        byDescription = itemRepository.save(byDescription);
+
+        List<ItemDto> page = itemService.getBySearch(user.getId(), "name", 1, 2);
+
+        assertEquals(List.of(byName.getId(), byDescription.getId()), page.stream().map(ItemDto::getId).toList());
+    }
+
+    @Test
+    void getBySearchWhenSizeIsZeroThenThrow() {
+        assertThrows(InvalidRequestException.class, () -> itemService.getBySearch(user.getId(), "name", 0, 0));
+    }
+
+    @Test
+    void getBySearchWhenSizeAboveLimitThenThrow() {
+        assertThrows(InvalidRequestException.class, () -> itemService.getBySearch(user.getId(), "name", 0, 101));
+    }
+
+    @Test
+    void getAvailabilityWhenUserNotFoundThenThrow() {
+        LocalDateTime from = LocalDateTime.now();
+
+        assertThrows(NotFoundException.class,
+                () -> itemService.getAvailability(item.getId(), -1L, from, from.plusDays(1)));
+    }
+
+    @Test
+    void getAvailabilityWhenFromIsNotBeforeToThenThrow() {
+        LocalDateTime from = LocalDateTime.now();
+
+        assertThrows(InvalidRequestException.class,
+                () -> itemService.getAvailability(item.getId(), user.getId(), from, from));
+    }
+
 
     @Test
     void getById() {
@@ -237,7 +444,7 @@ class ItemServiceImplTestIT {
 
     @Test
     void getBySearchWhenContained() {
-        List<ItemDto> items = itemService.getBySearch(user.getId(), "ame");
+        List<ItemDto> items = itemService.getBySearch(user.getId(), "ame", 0, 10);
 
         assertNotNull(items);
         assertEquals(1, items.size());
@@ -245,7 +452,7 @@ class ItemServiceImplTestIT {
 
     @Test
     void getBySearchWhenNotContained() {
-        List<ItemDto> items = itemService.getBySearch(user.getId(), "man");
+        List<ItemDto> items = itemService.getBySearch(user.getId(), "man", 0, 10);
 
         assertNotNull(items);
         assertEquals(0, items.size());
@@ -255,4 +462,14 @@ class ItemServiceImplTestIT {
 //    void getCommentsByItemId() {
 //List<>
 //    }
-}
\ No newline at end of file
+
+    private Booking saveBooking(Item bookedItem, LocalDateTime start, LocalDateTime end) {
+        Booking newBooking = new Booking();
+        newBooking.setStart(start);
+        newBooking.setEnd(end);
+        newBooking.setItem(bookedItem);
+        newBooking.setBooker(user);
+        newBooking.setStatus(Status.APPROVED);
+        return bookingRepository.save(newBooking);
+    }
+}
@@ -7,8 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.server.common.CollectionVersions;
 import ru.practicum.shareit.server.item.dto.ItemDto;
 import ru.practicum.shareit.server.request.dto.ItemRequestDto;
 import ru.practicum.shareit.server.request.dto.ItemRequestWithItemDto;
@@ -29,10 +32,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ItemRequestController.class)
+@Import(CollectionVersions.class)
 class ItemRequestControllerTest {
     private static final String API_PREFIX = "/requests";
     private LocalDateTime ldt;
@@ -45,6 +50,9 @@ class ItemRequestControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CollectionVersions collectionVersions;
+
     @MockBean
     private ItemRequestService irs;
 
@@ -119,4 +127,31 @@ class ItemRequestControllerTest {
                 .andExpect(jsonPath("$.items", hasSize(1)));
         verify(irs, times(1)).getItemRequestsById(anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @SneakyThrows
+    void getItemRequestsByOther_WhenETagMatches_ThenReturnNotModified() {
+        when(irs.getItemRequestsByOther(anyLong())).thenReturn(List.of(itemRequestWithItemDto));
+
+        String eTag = mvc.perform(get(API_PREFIX + "/all")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, "X-Sharer-User-Id"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get(API_PREFIX + "/all")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + eTag))
+                .andExpect(status().isNotModified());
+        verify(irs, times(1)).getItemRequestsByOther(1L);
+
+        collectionVersions.onItemRequestCreated(new ItemRequestCreatedEvent(2L, 2L));
+
+        mvc.perform(get(API_PREFIX + "/all")
+                        .header("X-Sharer-User-Id", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        verify(irs, times(2)).getItemRequestsByOther(1L);
+    }
+}
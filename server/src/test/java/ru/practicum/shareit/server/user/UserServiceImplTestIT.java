@@ -1,20 +1,36 @@
 package ru.practicum.shareit.server.user;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.server.exception.NotFoundException;
 import ru.practicum.shareit.server.user.dto.NewUserDto;
 import ru.practicum.shareit.server.user.dto.UpdateUserDto;
 import ru.practicum.shareit.server.user.dto.UserDto;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
 @Transactional
@@ -22,6 +38,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class UserServiceImplTestIT {
     private NewUserDto newUserDto = new NewUserDto("name", "email@email.com");
     private final UserService userService;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserCacheKeys userCacheKeys;
+    private final PlatformTransactionManager transactionManager;
 
     @Test
     void create() {
@@ -88,4 +111,84 @@ class UserServiceImplTestIT {
         assertEquals(savedUserDto.getName(), userDto.getName());
         assertEquals(savedUserDto.getEmail(), userDto.getEmail());
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getByIdWhenCachedThenUpdateChangesKey() {
+        UserDto userDto = userService.create(new NewUserDto("cached", "cached@email.com"));
+        Cache cache = cacheManager.getCache(UserLookup.USERS_CACHE);
+        double hits = meterRegistry.get("cache.gets").tag("cache", UserLookup.USERS_CACHE).tag("result", "hit")
+                .functionCounter()
+                .count();
+
+        userService.getById(userDto.getId());
+        userService.getById(userDto.getId());
+
+        assertEquals(hits + 1, meterRegistry.get("cache.gets").tag("cache", UserLookup.USERS_CACHE).tag("result", "hit")
+                .functionCounter()
+                .count());
+        assertNotNull(cache.get(userCacheKeys.user(userDto.getId())));
+
+        userService.update(userDto.getId(), new UpdateUserDto("newName", null));
+
+        assertNull(cache.get(userCacheKeys.user(userDto.getId())));
+        assertEquals("newName", userService.getById(userDto.getId()).getName());
+
+        userService.delete(userDto.getId());
+
+        assertNull(cache.get(userCacheKeys.user(userDto.getId())));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getByIdWhenReadOverlapsUpdateThenNotStale() {
+        UserDto userDto = userService.create(new NewUserDto("overlapped", "overlapped@email.com"));
+        try {
+            UserDto overlapped = readWhile(userDto.getId(),
+                    () -> userService.update(userDto.getId(), new UpdateUserDto("newName", null)));
+
+            assertEquals("overlapped", overlapped.getName());
+            assertEquals("newName", userService.getById(userDto.getId()).getName());
+        } finally {
+            userRepository.deleteById(userDto.getId());
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getByIdWhenReadOverlapsDeleteThenNotFound() {
+        UserDto userDto = userService.create(new NewUserDto("deleted", "deleted@email.com"));
+
+        readWhile(userDto.getId(), () -> userService.delete(userDto.getId()));
+
+        assertThrows(NotFoundException.class, () -> userService.getById(userDto.getId()));
+    }
+
+    @Test
+    void saveAllWhenManyUsersThenInsertInOneBatch() {
+        List<User> users = IntStream.range(0, 10)
+                .mapToObj(i -> new User(null, "name" + i, "email" + i + "@email.com"))
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        assertEquals(10, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 2);
+        assertTrue(users.stream().allMatch(user -> user.getId() != null));
+    }
+
+    private UserDto readWhile(Long userId, Runnable write) {
+        return Objects.requireNonNull(new TransactionTemplate(transactionManager).execute(status -> {
+            UserDto userDto = userService.getById(userId);
+            try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+                executor.submit(write).get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            return userDto;
+        }));
+    }
+}